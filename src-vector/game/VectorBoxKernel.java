@@ -0,0 +1,88 @@
+package game;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Noyau de test de boîtes avec l'API Vector (module incubateur)
+ * Compare un point à SPECIES.length() boîtes par instruction; la fin
+ * du tableau (moins d'un vecteur) est traitée en scalaire.
+ * Chargé par réflexion depuis BoxTestKernel.best().
+ */
+public class VectorBoxKernel implements BoxTestKernel {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public int pointInBoxes(int px, int py, int[] minX, int[] minY, int[] maxX, int[] maxY,
+                            int count, int[] hits) {
+        int found = 0;
+        int lanes = SPECIES.length();
+        int bound = SPECIES.loopBound(count);
+        int i = 0;
+
+        for (; i < bound; i += lanes) {
+            VectorMask<Integer> inside = insideMask(px, py, minX, minY, maxX, maxY, i);
+            if (inside.anyTrue()) {
+                long bits = inside.toLong();
+                while (bits != 0) {
+                    hits[found++] = i + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+        }
+
+        for (; i < count; i++) {
+            if (px > minX[i] && px < maxX[i] && py > minY[i] && py < maxY[i]) {
+                hits[found++] = i;
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void firstHits(int[] px, int[] py, int pointCount,
+                          int[] minX, int[] minY, int[] maxX, int[] maxY, int boxCount,
+                          int[] firstHit) {
+        int lanes = SPECIES.length();
+        int bound = SPECIES.loopBound(boxCount);
+
+        for (int p = 0; p < pointCount; p++) {
+            int x = px[p];
+            int y = py[p];
+            int hit = -1;
+            int i = 0;
+
+            for (; i < bound; i += lanes) {
+                VectorMask<Integer> inside = insideMask(x, y, minX, minY, maxX, maxY, i);
+                if (inside.anyTrue()) {
+                    hit = i + inside.firstTrue();
+                    break;
+                }
+            }
+            if (hit < 0) {
+                for (; i < boxCount; i++) {
+                    if (x > minX[i] && x < maxX[i] && y > minY[i] && y < maxY[i]) {
+                        hit = i;
+                        break;
+                    }
+                }
+            }
+            firstHit[p] = hit;
+        }
+    }
+
+    private static VectorMask<Integer> insideMask(int px, int py, int[] minX, int[] minY,
+                                                  int[] maxX, int[] maxY, int offset) {
+        return IntVector.fromArray(SPECIES, minX, offset).lt(px)
+            .and(IntVector.fromArray(SPECIES, maxX, offset).compare(VectorOperators.GT, px))
+            .and(IntVector.fromArray(SPECIES, minY, offset).lt(py))
+            .and(IntVector.fromArray(SPECIES, maxY, offset).compare(VectorOperators.GT, py));
+    }
+
+    @Override
+    public String getName() {
+        return "vector(" + SPECIES.vectorBitSize() + " bits, " + SPECIES.length() + " lanes)";
+    }
+}
@@ -2,6 +2,7 @@ import javax.swing.*;
 import game.Board;
 import utils.Logger;
 import utils.Constants;
+import utils.SpriteCache;
 
 /**
  * Point d'entrée principal de l'application
@@ -12,6 +13,12 @@ public class Main {
         // CRITIQUE: Initialiser le logger avant toute chose
         Logger.initialize();
         Logger.info("Application starting...");
+
+        // Sprites lus une fois ici, avant l'EDT: les entités ne touchent plus au disque
+        SpriteCache.preload(Constants.PLAYER_IMAGE, Constants.NORMAL_ALIEN_IMAGE,
+                            Constants.NORMAL_PROJECTILE_IMAGE, Constants.POWER_PROJECTILE_IMAGE,
+                            Constants.ALIEN_BOMB_IMAGE);
+        Logger.info(SpriteCache.getReport());
         
         // Créer et configurer la fenêtre de jeu
         SwingUtilities.invokeLater(() -> {
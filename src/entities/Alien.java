@@ -1,13 +1,14 @@
 package entities;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 import utils.Constants;
+import utils.SpriteCache;
 
 public class Alien implements ScreenItem {
 
+    private static final CollisionMask MASK = CollisionMask.forSprite(
+        Constants.NORMAL_ALIEN_IMAGE, Constants.NORMAL_ALIEN_WIDTH, Constants.NORMAL_ALIEN_HEIGHT);
+
     private int xCoord;
     private int yCoord;
     private int health;
@@ -18,15 +19,8 @@ public class Alien implements ScreenItem {
         this.yCoord = yCoord;
         this.health = Constants.NORMAL_ALIEN_HEALTH;
         
-        try{
-            image = ImageIO.read(new File(Constants.NORMAL_ALIEN_IMAGE));
-        } catch (IOException e){
-            image = new BufferedImage(
-                Constants.NORMAL_ALIEN_WIDTH,
-                Constants.NORMAL_ALIEN_HEIGHT,
-                BufferedImage.TYPE_INT_ARGB
-            );
-        }
+        image = SpriteCache.getOrBlank(Constants.NORMAL_ALIEN_IMAGE,
+            Constants.NORMAL_ALIEN_WIDTH, Constants.NORMAL_ALIEN_HEIGHT);
     }
 
     @Override
@@ -70,4 +64,9 @@ public class Alien implements ScreenItem {
     public void damage(int damage) {
         health -= damage;
     }
+
+    @Override
+    public CollisionMask getCollisionMask() {
+        return MASK;
+    }
 }
\ No newline at end of file
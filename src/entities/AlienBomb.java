@@ -1,13 +1,14 @@
 package entities;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 import utils.Constants;
+import utils.SpriteCache;
 
 public class AlienBomb implements ScreenItem, Projectile {
 
+    private static final CollisionMask MASK = CollisionMask.forSprite(
+        Constants.ALIEN_BOMB_IMAGE, Constants.ALIEN_BOMB_WIDTH, Constants.ALIEN_BOMB_HEIGHT);
+
     private int xCoord;
     private int yCoord;
     private BufferedImage image;
@@ -17,16 +18,8 @@ public class AlienBomb implements ScreenItem, Projectile {
         this.xCoord = xCoord;
         this.yCoord = yCoord;
 
-        try{
-            image = ImageIO.read(new File(Constants.ALIEN_BOMB_IMAGE));
-        } catch (IOException e){
-            // Create default image if file not found
-            image = new BufferedImage(
-                Constants.ALIEN_BOMB_WIDTH,
-                Constants.ALIEN_BOMB_HEIGHT,
-                BufferedImage.TYPE_INT_ARGB
-            );
-        }
+        image = SpriteCache.getOrBlank(Constants.ALIEN_BOMB_IMAGE,
+            Constants.ALIEN_BOMB_WIDTH, Constants.ALIEN_BOMB_HEIGHT);
     }
 
     @Override
@@ -78,4 +71,9 @@ public class AlienBomb implements ScreenItem, Projectile {
     public int getWidth() {
         return Constants.ALIEN_BOMB_WIDTH;
     }
+
+    @Override
+    public CollisionMask getCollisionMask() {
+        return MASK;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package entities;
+
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import utils.SpriteCache;
+
+/**
+ * Masque de collision d'un sprite: un bit par pixel opaque,
+ * rangées empaquetées dans des long (bit 0 = colonne 0).
+ * Construit une fois par sprite à partir du canal alpha, puis partagé.
+ * Les tests se font mot par mot (AND de rangées décalées), jamais pixel par pixel.
+ */
+public final class CollisionMask {
+    /** Alpha minimal pour qu'un pixel compte comme solide */
+    public static final int ALPHA_THRESHOLD = 128;
+
+    private static final Map<String, CollisionMask> SPRITE_MASKS = new ConcurrentHashMap<>();
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits; // height * wordsPerRow
+
+    private CollisionMask(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = new long[height * wordsPerRow];
+    }
+
+    /**
+     * Masque plein (boîte entière): repli quand le sprite est absent
+     */
+    public static CollisionMask solid(int width, int height) {
+        CollisionMask mask = new CollisionMask(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                mask.set(x, y);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Masque à la taille de la boîte de collision, échantillonné dans l'image
+     * (plus proche voisin si l'image n'a pas la même taille que la boîte)
+     */
+    public static CollisionMask fromImage(BufferedImage image, int width, int height) {
+        CollisionMask mask = new CollisionMask(width, height);
+        int imageWidth = image.getWidth();
+        int imageHeight = image.getHeight();
+        int[] row = new int[imageWidth];
+
+        for (int y = 0; y < height; y++) {
+            int sourceY = y * imageHeight / height;
+            image.getRGB(0, sourceY, imageWidth, 1, row, 0, imageWidth);
+            for (int x = 0; x < width; x++) {
+                if ((row[x * imageWidth / width] >>> 24) >= ALPHA_THRESHOLD) {
+                    mask.set(x, y);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Masque partagé d'un fichier sprite, construit au premier appel.
+     * Sprite absent ou illisible: masque plein (même résultat que le test de boîte).
+     */
+    public static CollisionMask forSprite(String path, int width, int height) {
+        return SPRITE_MASKS.computeIfAbsent(path + "@" + width + "x" + height, key -> {
+            BufferedImage image = SpriteCache.get(path);
+            return image != null ? fromImage(image, width, height) : solid(width, height);
+        });
+    }
+
+    private void set(int x, int y) {
+        bits[y * wordsPerRow + (x >>> 6)] |= 1L << (x & 63);
+    }
+
+    public boolean isSet(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return false;
+        return (bits[y * wordsPerRow + (x >>> 6)] & (1L << (x & 63))) != 0;
+    }
+
+    /**
+     * Vrai si les deux masques ont un pixel solide en commun,
+     * l'autre masque étant placé en (dx, dy) dans le repère de celui-ci.
+     * Un AND de mots décalés par rangée commune.
+     */
+    public boolean overlaps(CollisionMask other, int dx, int dy) {
+        int top = Math.max(0, dy);
+        int bottom = Math.min(height, dy + other.height);
+        if (top >= bottom || dx >= width || dx + other.width <= 0) {
+            return false;
+        }
+
+        for (int y = top; y < bottom; y++) {
+            int otherRow = (y - dy) * other.wordsPerRow;
+            for (int w = 0; w < wordsPerRow; w++) {
+                long mine = bits[y * wordsPerRow + w];
+                if (mine != 0 && (mine & other.shiftedWord(otherRow, (w << 6) - dx)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 64 bits de la rangée de ce masque à partir de la colonne start (peut être négative)
+     */
+    private long shiftedWord(int rowOffset, int start) {
+        int word = Math.floorDiv(start, 64);
+        int shift = Math.floorMod(start, 64);
+        long low = wordAt(rowOffset, word) >>> shift;
+        long high = shift == 0 ? 0 : wordAt(rowOffset, word + 1) << (64 - shift);
+        return low | high;
+    }
+
+    private long wordAt(int rowOffset, int word) {
+        return word < 0 || word >= wordsPerRow ? 0 : bits[rowOffset + word];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
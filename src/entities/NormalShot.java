@@ -1,13 +1,14 @@
 package entities;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 import utils.Constants;
+import utils.SpriteCache;
 
 public class NormalShot implements ScreenItem, Projectile {
 
+    private static final CollisionMask MASK = CollisionMask.forSprite(
+        Constants.NORMAL_PROJECTILE_IMAGE, Constants.NORMAL_PROJECTILE_WIDTH, Constants.NORMAL_PROJECTILE_HEIGHT);
+
     private int xCoord;
     private int yCoord;
     private BufferedImage image;
@@ -17,16 +18,8 @@ public class NormalShot implements ScreenItem, Projectile {
         this.xCoord = xCoord;
         this.yCoord = yCoord;
 
-        try{
-            image = ImageIO.read(new File(Constants.NORMAL_PROJECTILE_IMAGE));
-        } catch (IOException e){
-            // Create default image if file not found
-            image = new BufferedImage(
-                Constants.NORMAL_PROJECTILE_WIDTH,
-                Constants.NORMAL_PROJECTILE_HEIGHT,
-                BufferedImage.TYPE_INT_ARGB
-            );
-        }
+        image = SpriteCache.getOrBlank(Constants.NORMAL_PROJECTILE_IMAGE,
+            Constants.NORMAL_PROJECTILE_WIDTH, Constants.NORMAL_PROJECTILE_HEIGHT);
     }
 
     @Override
@@ -78,4 +71,9 @@ public class NormalShot implements ScreenItem, Projectile {
     public int getWidth() {
         return Constants.NORMAL_PROJECTILE_WIDTH;
     }
+
+    @Override
+    public CollisionMask getCollisionMask() {
+        return MASK;
+    }
 }
\ No newline at end of file
@@ -1,12 +1,9 @@
 package entities;
 
-import javax.imageio.ImageIO;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 import utils.Constants;
-import utils.Logger;
+import utils.SpriteCache;
 
 /**
  * Classe du joueur
@@ -14,6 +11,9 @@ import utils.Logger;
  */
 public class Player implements ScreenItem {
 
+    private static final CollisionMask MASK = CollisionMask.forSprite(
+        Constants.PLAYER_IMAGE, Constants.PLAYER_WIDTH, Constants.PLAYER_HEIGHT);
+
     private int xCoord;
     private int yCoord;
     private BufferedImage image;
@@ -22,18 +22,8 @@ public class Player implements ScreenItem {
         this.xCoord = Constants.PLAYER_START_X;
         this.yCoord = Constants.PLAYER_START_Y;
 
-        try {
-            image = ImageIO.read(new File(Constants.PLAYER_IMAGE));
-            Logger.info("Player image loaded successfully");
-        } catch (IOException e) {
-            Logger.error("Failed to load player image: " + e.getMessage());
-            // Créer une image par défaut
-            image = new BufferedImage(
-                Constants.PLAYER_WIDTH, 
-                Constants.PLAYER_HEIGHT, 
-                BufferedImage.TYPE_INT_ARGB
-            );
-        }
+        image = SpriteCache.getOrBlank(Constants.PLAYER_IMAGE,
+            Constants.PLAYER_WIDTH, Constants.PLAYER_HEIGHT);
     }
 
     @Override
@@ -106,4 +96,9 @@ public class Player implements ScreenItem {
     public void update() {
         // Logique de mise à jour si nécessaire
     }
+
+    @Override
+    public CollisionMask getCollisionMask() {
+        return MASK;
+    }
 }
\ No newline at end of file
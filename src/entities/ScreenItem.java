@@ -12,4 +12,7 @@ public interface ScreenItem {
     int getHeight();
     int getWidth();
     boolean draw();
+
+    /** Masque de collision du sprite (partagé entre toutes les instances) */
+    CollisionMask getCollisionMask();
 }
\ No newline at end of file
@@ -0,0 +1,185 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
+import utils.Logger;
+
+/**
+ * Exécute un grand nombre de parties indépendantes en parallèle
+ * pour évaluer l'équilibrage (distribution des scores, durée des parties, power-ups).
+ * Chaque partie a sa propre GameSimulation et sa propre politique d'entrée
+ * graine; rien n'est partagé entre les tâches, le logging est coupé.
+ *
+ * Usage: java -Djava.awt.headless=true game.BatchRunner [parties] [threads] [graine]
+ */
+public class BatchRunner {
+
+    /** Résultat d'une partie */
+    public static final class RunResult {
+        final long seed;
+        final GameSimulation.Result result;
+        final int score;
+        final long ticks;
+        final int powerUps;
+
+        RunResult(long seed, GameSimulation.Result result, int score, long ticks, int powerUps) {
+            this.seed = seed;
+            this.result = result;
+            this.score = score;
+            this.ticks = ticks;
+            this.powerUps = powerUps;
+        }
+    }
+
+    /**
+     * Politique d'entrée pseudo-aléatoire reproductible: garde une direction
+     * pendant une durée tirée au hasard, tire la plupart du temps
+     */
+    static final class SeededInputPolicy {
+        private final GameRandom random;
+        private int direction = 0; // -1 gauche, 0 immobile, 1 droite
+        private int ticksLeft = 0;
+
+        SeededInputPolicy(GameRandom random) {
+            this.random = random;
+        }
+
+        void apply(InputState input) {
+            if (ticksLeft-- <= 0) {
+                direction = random.nextInt(3) - 1;
+                ticksLeft = 20 + random.nextInt(100);
+            }
+            input.clearEdges();
+            input.set(InputState.LEFT, direction < 0);
+            input.set(InputState.RIGHT, direction > 0);
+            input.set(InputState.FIRE, random.nextInt(10) != 0);
+        }
+    }
+
+    private static final long MAX_TICKS_PER_GAME = 100_000;
+
+    public static RunResult runGame(long seed) {
+        // Une graine par partie: simulation et politique d'entrée dans des flux séparés
+        GameRandom runRandom = new GameRandom(seed);
+        GameSimulation simulation = new GameSimulation(runRandom.nextLong());
+        SeededInputPolicy policy = new SeededInputPolicy(runRandom.split());
+        InputState input = new InputState();
+
+        while (simulation.getResult() == GameSimulation.Result.RUNNING &&
+               simulation.getTickCount() < MAX_TICKS_PER_GAME) {
+            policy.apply(input);
+            simulation.step(input);
+        }
+
+        return new RunResult(seed, simulation.getResult(), simulation.getScore(),
+                             simulation.getTickCount(), simulation.getPowerUpsApplied());
+    }
+
+    /**
+     * Lance les parties sur un pool work-stealing et attend tous les résultats
+     */
+    public static List<RunResult> runBatch(int games, int threads, long baseSeed)
+            throws InterruptedException, ExecutionException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            // Graines dérivées d'un seul générateur: la série entière est reproductible
+            GameRandom seeds = new GameRandom(baseSeed);
+            List<Future<RunResult>> futures = new ArrayList<>(games);
+            for (int i = 0; i < games; i++) {
+                long seed = seeds.nextLong();
+                futures.add(pool.submit(() -> runGame(seed)));
+            }
+
+            List<RunResult> results = new ArrayList<>(games);
+            for (Future<RunResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1])
+                                       : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        // Le logger est un point de contention global: le couper pour le lot
+        Logger.setEnabled(false);
+
+        long start = System.nanoTime();
+        List<RunResult> results = runBatch(games, threads, seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        printReport(results, threads, seconds);
+    }
+
+    private static void printReport(List<RunResult> results, int threads, double seconds) {
+        int games = results.size();
+        int[] scores = new int[games];
+        long totalTicks = 0;
+        long wins = 0, losses = 0, timeouts = 0;
+        long ticksToWin = 0, ticksToLose = 0;
+        long powerUps = 0;
+
+        for (int i = 0; i < games; i++) {
+            RunResult run = results.get(i);
+            scores[i] = run.score;
+            totalTicks += run.ticks;
+            powerUps += run.powerUps;
+            switch (run.result) {
+                case WON:
+                    wins++;
+                    ticksToWin += run.ticks;
+                    break;
+                case LOST:
+                    losses++;
+                    ticksToLose += run.ticks;
+                    break;
+                default:
+                    timeouts++;
+                    break;
+            }
+        }
+        Arrays.sort(scores);
+
+        System.out.printf("%d games on %d threads in %.2f s (%.0f games/s, %.0f ticks/s)%n",
+                games, threads, seconds, games / seconds, totalTicks / seconds);
+        System.out.printf("won=%d lost=%d timeout=%d%n", wins, losses, timeouts);
+        System.out.printf("ticks to win: %s | ticks to lose: %s%n",
+                wins == 0 ? "-" : String.valueOf(ticksToWin / wins),
+                losses == 0 ? "-" : String.valueOf(ticksToLose / losses));
+        System.out.printf("score min=%d p10=%d p50=%d p90=%d max=%d mean=%.1f%n",
+                scores[0], percentile(scores, 10), percentile(scores, 50),
+                percentile(scores, 90), scores[games - 1],
+                Arrays.stream(scores).average().orElse(0));
+        System.out.printf("power-ups applied: %d total, %.2f per game%n",
+                powerUps, (double) powerUps / games);
+
+        // Histogramme des scores par tranches de 50 points (un power-up par tranche)
+        int bucketSize = 50;
+        int buckets = scores[games - 1] / bucketSize + 1;
+        int[] histogram = new int[buckets];
+        for (int score : scores) {
+            histogram[score / bucketSize]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            if (histogram[b] > 0) {
+                System.out.printf("  %4d-%-4d %6d%n", b * bucketSize,
+                        (b + 1) * bucketSize - 1, histogram[b]);
+            }
+        }
+    }
+
+    private static int percentile(int[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
@@ -0,0 +1,51 @@
+package game;
+
+/**
+ * Test de collision par lots: points contre boîtes ouvertes
+ * (minX < x < maxX et minY < y < maxY, même règle que AlienObject.contains),
+ * sur des tableaux de coordonnées primitifs (une colonne par borne).
+ *
+ * Deux implémentations: scalaire (toujours disponible) et vectorielle
+ * (jdk.incubator.vector, source optionnelle src-vector). Utiliser best().
+ */
+public interface BoxTestKernel {
+
+    /**
+     * Un point contre count boîtes
+     * @param hits reçoit les indices des boîtes touchées, par ordre croissant
+     * @return nombre de boîtes touchées
+     */
+    int pointInBoxes(int px, int py, int[] minX, int[] minY, int[] maxX, int[] maxY,
+                     int count, int[] hits);
+
+    /**
+     * Plusieurs points contre plusieurs boîtes
+     * @param firstHit reçoit pour chaque point l'indice de la première boîte touchée, -1 sinon
+     */
+    default void firstHits(int[] px, int[] py, int pointCount,
+                           int[] minX, int[] minY, int[] maxX, int[] maxY, int boxCount,
+                           int[] firstHit) {
+        int[] hits = new int[Math.max(1, boxCount)];
+        for (int p = 0; p < pointCount; p++) {
+            int n = pointInBoxes(px[p], py[p], minX, minY, maxX, maxY, boxCount, hits);
+            firstHit[p] = n > 0 ? hits[0] : -1;
+        }
+    }
+
+    String getName();
+
+    String VECTOR_KERNEL_CLASS = "game.VectorBoxKernel";
+
+    /**
+     * Noyau vectoriel si le module jdk.incubator.vector est chargé
+     * (--add-modules jdk.incubator.vector) et la classe compilée, sinon scalaire
+     */
+    static BoxTestKernel best() {
+        try {
+            Class<?> type = Class.forName(VECTOR_KERNEL_CLASS);
+            return (BoxTestKernel) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarBoxKernel();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package game;
+
+import java.util.Arrays;
+
+/**
+ * Compare les noyaux de test de boîtes (scalaire et vectoriel) sur une scène de stress:
+ * une grille d'aliens et des projectiles tirés au hasard sur la même zone.
+ * Vérifie aussi que les deux noyaux rendent exactement les mêmes touches.
+ * Ces noyaux ne servent qu'à ce banc: la simulation passe par SpatialHashGrid et AlienFormation.
+ *
+ * Usage:
+ *   java -cp out game.CollisionBenchmark [boîtes] [points] [itérations]
+ *   java --add-modules jdk.incubator.vector -cp out:out-vector game.CollisionBenchmark ...
+ */
+public class CollisionBenchmark {
+    private static final int WARMUP_ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int boxes = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int points = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        // Boîtes d'alien (30x20) en grille carrée de ceil(sqrt(boîtes)) colonnes, espacées de 40
+        int cols = (int) Math.ceil(Math.sqrt(boxes));
+        int[] minX = new int[boxes], minY = new int[boxes];
+        int[] maxX = new int[boxes], maxY = new int[boxes];
+        for (int i = 0; i < boxes; i++) {
+            int cx = (i % cols) * 40;
+            int cy = (i / cols) * 40;
+            minX[i] = cx - 15;
+            maxX[i] = cx + 15;
+            minY[i] = cy - 10;
+            maxY[i] = cy + 10;
+        }
+
+        GameRandom random = new GameRandom(42);
+        int extent = cols * 40;
+        int[] px = new int[points], py = new int[points];
+        for (int i = 0; i < points; i++) {
+            px[i] = random.nextInt(extent);
+            py[i] = random.nextInt(extent);
+        }
+
+        BoxTestKernel scalar = new ScalarBoxKernel();
+        BoxTestKernel best = BoxTestKernel.best();
+        System.out.printf("%d boxes x %d points, %d iterations%n", boxes, points, iterations);
+        if (best instanceof ScalarBoxKernel) {
+            System.out.println("Vector kernel unavailable (needs --add-modules jdk.incubator.vector "
+                             + "and src-vector on the classpath): scalar only");
+        }
+
+        long scalarAll = benchAllHits(scalar, px, py, minX, minY, maxX, maxY, iterations);
+        long scalarFirst = benchFirstHits(scalar, px, py, minX, minY, maxX, maxY, iterations);
+        if (best instanceof ScalarBoxKernel) {
+            return;
+        }
+        long bestAll = benchAllHits(best, px, py, minX, minY, maxX, maxY, iterations);
+        long bestFirst = benchFirstHits(best, px, py, minX, minY, maxX, maxY, iterations);
+
+        checkSameResults(scalar, best, px, py, minX, minY, maxX, maxY);
+        System.out.printf("speedup: all hits x%.2f, first hit x%.2f%n",
+                (double) scalarAll / bestAll, (double) scalarFirst / bestFirst);
+    }
+
+    private static long benchAllHits(BoxTestKernel kernel, int[] px, int[] py,
+                                     int[] minX, int[] minY, int[] maxX, int[] maxY,
+                                     int iterations) {
+        int[] hits = new int[minX.length];
+        long checksum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (int p = 0; p < px.length; p++) {
+                checksum += kernel.pointInBoxes(px[p], py[p], minX, minY, maxX, maxY, minX.length, hits);
+            }
+        }
+
+        long start = System.nanoTime();
+        for (int round = 0; round < iterations; round++) {
+            for (int p = 0; p < px.length; p++) {
+                checksum += kernel.pointInBoxes(px[p], py[p], minX, minY, maxX, maxY, minX.length, hits);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        report(kernel, "all hits ", elapsed, px.length, minX.length, iterations, checksum);
+        return elapsed;
+    }
+
+    private static long benchFirstHits(BoxTestKernel kernel, int[] px, int[] py,
+                                       int[] minX, int[] minY, int[] maxX, int[] maxY,
+                                       int iterations) {
+        int[] firstHit = new int[px.length];
+        long checksum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            kernel.firstHits(px, py, px.length, minX, minY, maxX, maxY, minX.length, firstHit);
+            checksum += firstHit[round % firstHit.length];
+        }
+
+        long start = System.nanoTime();
+        for (int round = 0; round < iterations; round++) {
+            kernel.firstHits(px, py, px.length, minX, minY, maxX, maxY, minX.length, firstHit);
+            checksum += firstHit[round % firstHit.length];
+        }
+        long elapsed = System.nanoTime() - start;
+        report(kernel, "first hit", elapsed, px.length, minX.length, iterations, checksum);
+        return elapsed;
+    }
+
+    private static void report(BoxTestKernel kernel, String mode, long elapsed,
+                               int points, int boxes, int iterations, long checksum) {
+        double tests = (double) points * boxes * iterations;
+        System.out.printf("%-32s %s: %8.1f ms, %6.2f ns/point, %6.0f M box tests/s (checksum %d)%n",
+                kernel.getName(), mode, elapsed / 1e6,
+                (double) elapsed / ((long) points * iterations), tests / elapsed * 1e3, checksum);
+    }
+
+    private static void checkSameResults(BoxTestKernel reference, BoxTestKernel candidate,
+                                         int[] px, int[] py,
+                                         int[] minX, int[] minY, int[] maxX, int[] maxY) {
+        int[] expectedHits = new int[minX.length];
+        int[] actualHits = new int[minX.length];
+        for (int p = 0; p < px.length; p++) {
+            int expectedCount = reference.pointInBoxes(px[p], py[p], minX, minY, maxX, maxY,
+                                                       minX.length, expectedHits);
+            int actualCount = candidate.pointInBoxes(px[p], py[p], minX, minY, maxX, maxY,
+                                                     minX.length, actualHits);
+            if (expectedCount != actualCount ||
+                    !Arrays.equals(expectedHits, 0, expectedCount, actualHits, 0, actualCount)) {
+                throw new IllegalStateException("Kernel mismatch (all hits) at point " + p + ": " +
+                        reference.getName() + "=" + hitList(expectedHits, expectedCount) + ", " +
+                        candidate.getName() + "=" + hitList(actualHits, actualCount));
+            }
+        }
+
+        int[] expected = new int[px.length];
+        int[] actual = new int[px.length];
+        reference.firstHits(px, py, px.length, minX, minY, maxX, maxY, minX.length, expected);
+        candidate.firstHits(px, py, px.length, minX, minY, maxX, maxY, minX.length, actual);
+        for (int p = 0; p < px.length; p++) {
+            if (expected[p] != actual[p]) {
+                throw new IllegalStateException("Kernel mismatch (first hit) at point " + p + ": " +
+                        reference.getName() + "=" + expected[p] + ", " +
+                        candidate.getName() + "=" + actual[p]);
+            }
+        }
+        System.out.println("results identical to scalar kernel");
+    }
+
+    private static String hitList(int[] hits, int count) {
+        return Arrays.toString(Arrays.copyOf(hits, count));
+    }
+}
@@ -0,0 +1,82 @@
+package game;
+
+import java.util.concurrent.ForkJoinPool;
+import utils.Logger;
+
+/**
+ * Scène de stress pour la détection de collisions: une grande formation
+ * et des milliers de tirs injectés à chaque tick.
+ * La formation est large plutôt que haute: au-delà d'une dizaine de rangées
+ * elle dépasse ALIEN_GAME_OVER_Y et la partie est perdue dès le premier tick.
+ * Plus large que l'écran, elle descend à chaque tick une fois le bord gauche
+ * atteint: la scène dure un peu plus de 100 ticks, d'où la valeur par défaut.
+ * Joue la même scène en série puis avec la phase fine parallèle,
+ * compare les traces d'état tick par tick et affiche le temps par tick.
+ *
+ * Usage: java -Djava.awt.headless=true game.CollisionStressRunner
+ *            [rangées] [colonnes] [tirs/tick] [ticks] [threads]
+ */
+public class CollisionStressRunner {
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int cols = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int shotsPerTick = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+        int ticks = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+        int threads = args.length > 4 ? Integer.parseInt(args[4])
+                                       : Runtime.getRuntime().availableProcessors();
+
+        Logger.setEnabled(false);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        StateTrace serial = new StateTrace();
+        StateTrace parallel = new StateTrace();
+        long serialNanos;
+        long parallelNanos;
+        try {
+            // Premier passage de chaque chemin pour chauffer le JIT, seul le second est mesuré
+            run(rows, cols, shotsPerTick, ticks, null, new StateTrace());
+            run(rows, cols, shotsPerTick, ticks, pool, new StateTrace());
+            serialNanos = run(rows, cols, shotsPerTick, ticks, null, serial);
+            parallelNanos = run(rows, cols, shotsPerTick, ticks, pool, parallel);
+        } finally {
+            pool.shutdown();
+        }
+
+        int played = serial.length();
+        System.out.printf("%dx%d aliens, %d shots/tick, %d ticks played%n", rows, cols, shotsPerTick, played);
+        System.out.printf("serial:   %.3f ms/tick%n", serialNanos / 1e6 / played);
+        System.out.printf("parallel: %.3f ms/tick on %d threads (x%.2f)%n",
+                parallelNanos / 1e6 / played, threads, (double) serialNanos / parallelNanos);
+
+        StateTrace.Divergence divergence = serial.firstDivergence(parallel);
+        System.out.println(divergence == null ? "serial and parallel traces identical"
+                                              : "first divergence at " + divergence);
+        if (divergence != null) {
+            System.exit(1);
+        }
+    }
+
+    private static long run(int rows, int cols, int shotsPerTick, int ticks,
+                            ForkJoinPool pool, StateTrace trace) {
+        GameSimulation simulation = new GameSimulation(1L, rows, cols);
+        simulation.setCollisionPool(pool);
+        GameRandom shots = new GameRandom(2L);
+        InputState input = new InputState();
+        int width = cols * 40 + 200;
+        int height = rows * 40 + 200;
+
+        long elapsed = 0;
+        for (int tick = 0; tick < ticks && simulation.getResult() == GameSimulation.Result.RUNNING; tick++) {
+            for (int s = 0; s < shotsPerTick; s++) {
+                simulation.spawnProjectile(shots.nextInt(width), shots.nextInt(height));
+            }
+            long start = System.nanoTime();
+            simulation.step(input);
+            elapsed += System.nanoTime() - start;
+            trace.record(input, simulation);
+        }
+        return elapsed;
+    }
+}
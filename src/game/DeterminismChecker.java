@@ -0,0 +1,117 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import utils.Logger;
+
+/**
+ * Vérifie que la simulation est déterministe en comparant des traces d'état:
+ *  - exécution seule sur le thread principal (référence)
+ *  - même graine exécutée dans un ForkJoinPool, en concurrence avec d'autres parties
+ *  - rejeu des entrées enregistrées par la référence
+ * Rapporte le premier tick et le premier champ qui divergent.
+ * Filet de sécurité à relancer après chaque optimisation de la boucle.
+ *
+ * Usage: java -Djava.awt.headless=true game.DeterminismChecker [graines] [threads] [graine]
+ */
+public class DeterminismChecker {
+    private static final long MAX_TICKS_PER_GAME = 20_000;
+
+    /**
+     * Joue une partie avec la politique d'entrée graine de BatchRunner et trace chaque tick
+     */
+    public static StateTrace recordLive(long seed) {
+        GameRandom runRandom = new GameRandom(seed);
+        GameSimulation simulation = new GameSimulation(runRandom.nextLong());
+        BatchRunner.SeededInputPolicy policy = new BatchRunner.SeededInputPolicy(runRandom.split());
+        InputState input = new InputState();
+        StateTrace trace = new StateTrace();
+
+        while (simulation.getResult() == GameSimulation.Result.RUNNING &&
+               simulation.getTickCount() < MAX_TICKS_PER_GAME) {
+            policy.apply(input);
+            simulation.step(input);
+            trace.record(input, simulation);
+        }
+        return trace;
+    }
+
+    /**
+     * Rejoue les entrées d'une trace sur une nouvelle simulation de même graine
+     */
+    public static StateTrace replay(long seed, StateTrace recorded) {
+        GameRandom runRandom = new GameRandom(seed);
+        GameSimulation simulation = new GameSimulation(runRandom.nextLong());
+        InputState input = new InputState();
+        StateTrace trace = new StateTrace();
+
+        for (int tick = 0; tick < recorded.length(); tick++) {
+            input.fromBits(recorded.getInput(tick));
+            simulation.step(input);
+            trace.record(input, simulation);
+        }
+        return trace;
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        int seeds = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int threads = args.length > 1 ? Integer.parseInt(args[1])
+                                       : Runtime.getRuntime().availableProcessors();
+        long baseSeed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        Logger.setEnabled(false);
+
+        GameRandom seedRandom = new GameRandom(baseSeed);
+        long[] gameSeeds = new long[seeds];
+        for (int i = 0; i < seeds; i++) {
+            gameSeeds[i] = seedRandom.nextLong();
+        }
+
+        // Référence: toutes les parties à la suite sur ce thread
+        StateTrace[] reference = new StateTrace[seeds];
+        for (int i = 0; i < seeds; i++) {
+            reference[i] = recordLive(gameSeeds[i]);
+        }
+
+        // Mêmes parties en concurrence sur le pool
+        StateTrace[] parallel = new StateTrace[seeds];
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<Future<StateTrace>> futures = new ArrayList<>(seeds);
+            for (long seed : gameSeeds) {
+                futures.add(pool.submit(() -> recordLive(seed)));
+            }
+            for (int i = 0; i < seeds; i++) {
+                parallel[i] = futures.get(i).get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        int failures = 0;
+        for (int i = 0; i < seeds; i++) {
+            StateTrace replayed = replay(gameSeeds[i], reference[i]);
+            failures += report(gameSeeds[i], "serial vs parallel",
+                               reference[i].firstDivergence(parallel[i]));
+            failures += report(gameSeeds[i], "live vs replay",
+                               reference[i].firstDivergence(replayed));
+        }
+
+        System.out.printf("%d seeds on %d threads: %s%n", seeds, threads,
+                failures == 0 ? "all traces identical" : failures + " divergence(s)");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static int report(long seed, String comparison, StateTrace.Divergence divergence) {
+        if (divergence == null) {
+            return 0;
+        }
+        System.out.printf("seed %d, %s: first divergence at %s%n", seed, comparison, divergence);
+        return 1;
+    }
+}
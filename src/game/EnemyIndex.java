@@ -0,0 +1,295 @@
+package game;
+
+import java.util.Arrays;
+
+import patterns.composite.AlienFormation;
+import patterns.composite.AlienObject;
+import patterns.composite.GameComponent;
+import patterns.composite.GameGroup;
+
+/**
+ * Index spatial des ennemis actifs pour les requêtes de proximité
+ * (plus proche alien, k plus proches, aliens dans un rayon), par exemple
+ * pour des tirs à tête chercheuse interrogeant l'index à chaque tick.
+ *
+ * Grille uniforme reconstruite à chaque tick en O(n): tri par casier des
+ * centres d'aliens dans des tableaux contigus (début de cellule + indices).
+ * La taille de cellule suit la densité (quelques aliens par cellule).
+ * Une requête k-plus-proches parcourt des anneaux de cellules autour du point
+ * et s'arrête dès qu'aucune cellule restante ne peut contenir de meilleur candidat.
+ * Les aliens détruits après la reconstruction sont ignorés à la requête.
+ */
+public class EnemyIndex {
+    private static final int POINTS_PER_CELL = 2;
+    private static final int MIN_CELL_SIZE = 8;
+
+    // Centres des aliens indexés (ordre de l'arbre), et les aliens eux-mêmes
+    private int[] xs = new int[64];
+    private int[] ys = new int[64];
+    private AlienObject[] aliens = new AlienObject[64];
+    private int count = 0;
+
+    // Grille: cellStart[c]..cellStart[c+1] dans cellItems
+    private int originX, originY, cellSize = MIN_CELL_SIZE, cols = 1, rows = 1;
+    private int[] cellStart = new int[2];
+    private int[] cellItems = new int[64];
+
+    // Tampon des k meilleurs candidats (trié par distance croissante)
+    private long[] bestDist = new long[8];
+    private int[] bestItem = new int[8];
+
+    /**
+     * Réindexe les aliens actifs de toutes les formations du groupe
+     */
+    public void rebuild(GameGroup enemyGroup) {
+        count = 0;
+        collect(enemyGroup);
+        buildGrid();
+    }
+
+    private void collect(GameComponent component) {
+        boolean formation = component instanceof AlienFormation;
+        if (formation) {
+            // Emplacements vivants lus directement dans les tableaux de la formation
+            AlienFormation alienFormation = (AlienFormation) component;
+            for (int s = alienFormation.nextAliveSlot(0); s >= 0; s = alienFormation.nextAliveSlot(s + 1)) {
+                add(alienFormation.getAlien(s));
+            }
+            if (!alienFormation.hasNonAlienChildren()) {
+                return;
+            }
+        }
+        for (GameComponent child : component.getChildren()) {
+            if (!child.isActive()) continue;
+            if (child instanceof AlienObject) {
+                if (!formation) {
+                    add((AlienObject) child);
+                }
+            } else if (child.isComposite()) {
+                collect(child);
+            }
+        }
+    }
+
+    /**
+     * Ajoute un alien sans reconstruire la grille (voir build())
+     */
+    void add(AlienObject alien) {
+        if (count == xs.length) {
+            int capacity = count * 2;
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            aliens = Arrays.copyOf(aliens, capacity);
+        }
+        xs[count] = alien.getX();
+        ys[count] = alien.getY();
+        aliens[count] = alien;
+        count++;
+    }
+
+    void clear() {
+        Arrays.fill(aliens, 0, count, null);
+        count = 0;
+    }
+
+    /** Reconstruit la grille sur les aliens ajoutés */
+    void buildGrid() {
+        if (count == 0) {
+            cols = rows = 1;
+            cellStart[0] = cellStart[1] = 0;
+            return;
+        }
+
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        long width = (long) maxX - minX + 1;
+        long height = (long) maxY - minY + 1;
+        cellSize = (int) Math.max(MIN_CELL_SIZE,
+                Math.ceil(Math.sqrt((double) width * height * POINTS_PER_CELL / count)));
+        originX = minX;
+        originY = minY;
+        cols = (int) ((width - 1) / cellSize + 1);
+        rows = (int) ((height - 1) / cellSize + 1);
+
+        int cells = cols * rows;
+        if (cellStart.length < cells + 1) {
+            cellStart = new int[cells + 1];
+        } else {
+            Arrays.fill(cellStart, 0, cells + 1, 0);
+        }
+        if (cellItems.length < count) {
+            cellItems = new int[xs.length];
+        }
+
+        // Tri par casier: compte, préfixe, puis placement (ordre d'insertion conservé)
+        for (int i = 0; i < count; i++) {
+            cellStart[cellOf(i) + 1]++;
+        }
+        for (int c = 0; c < cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        for (int i = 0; i < count; i++) {
+            int c = cellOf(i);
+            cellItems[cellStart[c]++] = i;
+        }
+        for (int c = cells; c > 0; c--) {
+            cellStart[c] = cellStart[c - 1];
+        }
+        cellStart[0] = 0;
+    }
+
+    private int cellOf(int i) {
+        return ((ys[i] - originY) / cellSize) * cols + (xs[i] - originX) / cellSize;
+    }
+
+    private int clampCol(long x) {
+        return (int) Math.max(0, Math.min(cols - 1, Math.floorDiv(x - originX, (long) cellSize)));
+    }
+
+    private int clampRow(long y) {
+        return (int) Math.max(0, Math.min(rows - 1, Math.floorDiv(y - originY, (long) cellSize)));
+    }
+
+    /**
+     * Alien actif le plus proche du point, ou null
+     */
+    public AlienObject nearest(int x, int y) {
+        return search(x, y, 1) == 0 ? null : aliens[bestItem[0]];
+    }
+
+    /**
+     * Les k aliens actifs les plus proches, du plus proche au plus lointain
+     * (égalité: ordre de l'arbre)
+     * @return nombre d'aliens écrits dans out (au plus k)
+     */
+    public int nearest(int x, int y, int k, AlienObject[] out) {
+        int found = search(x, y, k);
+        for (int i = 0; i < found; i++) {
+            out[i] = aliens[bestItem[i]];
+        }
+        return found;
+    }
+
+    /**
+     * Remplit bestDist/bestItem avec les k meilleurs candidats
+     */
+    private int search(int x, int y, int k) {
+        if (count == 0 || k <= 0) return 0;
+        if (bestDist.length < k) {
+            bestDist = new long[k];
+            bestItem = new int[k];
+        }
+
+        int found = 0;
+        int qcx = clampCol(x);
+        int qcy = clampRow(y);
+        int maxRing = Math.max(Math.max(qcx, cols - 1 - qcx), Math.max(qcy, rows - 1 - qcy));
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int cy = qcy - ring; cy <= qcy + ring; cy++) {
+                if (cy < 0 || cy >= rows) continue;
+                boolean edgeRow = cy == qcy - ring || cy == qcy + ring;
+                int step = edgeRow ? 1 : 2 * ring; // Intérieur de l'anneau déjà visité
+                for (int cx = qcx - ring; cx <= qcx + ring; cx += Math.max(1, step)) {
+                    if (cx < 0 || cx >= cols) continue;
+                    found = scanCell(cy * cols + cx, x, y, k, found);
+                }
+            }
+
+            // Distance minimale à une cellule pas encore visitée
+            // (strict: un ex aequo plus loin pourrait passer avant dans l'ordre de l'arbre)
+            long reach = unvisitedDistance(x, y, qcx, qcy, ring);
+            if (found == k && bestDist[k - 1] < reach * reach) {
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Distance du point au bord du carré de cellules déjà visité, en ne comptant
+     * que les côtés au-delà desquels il reste des cellules
+     */
+    private long unvisitedDistance(int x, int y, int qcx, int qcy, int ring) {
+        long reach = Long.MAX_VALUE;
+        if (qcx - ring > 0) {
+            reach = Math.min(reach, (long) x - (originX + (long) (qcx - ring) * cellSize));
+        }
+        if (qcx + ring < cols - 1) {
+            reach = Math.min(reach, originX + (long) (qcx + ring + 1) * cellSize - x);
+        }
+        if (qcy - ring > 0) {
+            reach = Math.min(reach, (long) y - (originY + (long) (qcy - ring) * cellSize));
+        }
+        if (qcy + ring < rows - 1) {
+            reach = Math.min(reach, originY + (long) (qcy + ring + 1) * cellSize - y);
+        }
+        return Math.max(0, Math.min(reach, Integer.MAX_VALUE));
+    }
+
+    private int scanCell(int cell, int x, int y, int k, int found) {
+        for (int j = cellStart[cell]; j < cellStart[cell + 1]; j++) {
+            int item = cellItems[j];
+            if (!aliens[item].isActive()) continue;
+
+            long dx = xs[item] - x;
+            long dy = ys[item] - y;
+            long dist = dx * dx + dy * dy;
+            if (found == k && !closer(dist, item, bestDist[k - 1], bestItem[k - 1])) {
+                continue;
+            }
+
+            // Insertion triée dans les k meilleurs
+            int pos = found < k ? found++ : k - 1;
+            while (pos > 0 && closer(dist, item, bestDist[pos - 1], bestItem[pos - 1])) {
+                bestDist[pos] = bestDist[pos - 1];
+                bestItem[pos] = bestItem[pos - 1];
+                pos--;
+            }
+            bestDist[pos] = dist;
+            bestItem[pos] = item;
+        }
+        return found;
+    }
+
+    private static boolean closer(long dist, int item, long otherDist, int otherItem) {
+        return dist < otherDist || (dist == otherDist && item < otherItem);
+    }
+
+    /**
+     * Aliens actifs dont le centre est à distance <= radius du point
+     * @return nombre d'aliens écrits dans out (au plus out.length)
+     */
+    public int withinRadius(int x, int y, int radius, AlienObject[] out) {
+        if (count == 0 || radius < 0) return 0;
+        long r2 = (long) radius * radius;
+        int found = 0;
+
+        int col0 = clampCol((long) x - radius), col1 = clampCol((long) x + radius);
+        int row0 = clampRow((long) y - radius), row1 = clampRow((long) y + radius);
+        for (int cy = row0; cy <= row1; cy++) {
+            for (int cx = col0; cx <= col1; cx++) {
+                int cell = cy * cols + cx;
+                for (int j = cellStart[cell]; j < cellStart[cell + 1] && found < out.length; j++) {
+                    int item = cellItems[j];
+                    long dx = xs[item] - x;
+                    long dy = ys[item] - y;
+                    if (dx * dx + dy * dy <= r2 && aliens[item].isActive()) {
+                        out[found++] = aliens[item];
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    public int size() {
+        return count;
+    }
+}
@@ -0,0 +1,120 @@
+package game;
+
+import patterns.composite.AlienObject;
+import utils.Logger;
+
+/**
+ * Coût des requêtes de proximité (plus proche, 8 plus proches, rayon)
+ * selon le nombre d'ennemis, comparé à un parcours linéaire.
+ * Vérifie au passage que l'index et le parcours trouvent le même plus proche.
+ *
+ * Usage: java -Djava.awt.headless=true game.EnemyQueryBenchmark [requêtes]
+ */
+public class EnemyQueryBenchmark {
+    private static final int[] ENEMY_COUNTS = {55, 500, 5_000, 50_000};
+    private static final int K = 8;
+    private static final int RADIUS = 100;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        int queries = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+
+        Logger.setEnabled(false);
+
+        // Un premier tour complet non affiché pour chauffer le JIT
+        for (int enemies : ENEMY_COUNTS) {
+            run(enemies, queries, false);
+        }
+        System.out.printf("%8s %10s %10s %10s %10s %10s%n",
+                "enemies", "rebuild", "nearest", "8-nearest", "radius", "linear");
+        for (int enemies : ENEMY_COUNTS) {
+            run(enemies, queries, true);
+        }
+        System.out.println("(rebuild in us, queries in ns/query)");
+    }
+
+    private static void run(int enemies, int queries, boolean print) {
+        // Formation carrée espacée de 40 px, comme la formation principale
+        GameRandom random = new GameRandom(enemies);
+        int side = (int) Math.ceil(Math.sqrt(enemies));
+        AlienObject[] aliens = new AlienObject[enemies];
+        for (int i = 0; i < enemies; i++) {
+            aliens[i] = new AlienObject((i % side) * 40, (i / side) * 40);
+        }
+        int extent = side * 40;
+        int[] qx = new int[queries], qy = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            qx[i] = random.nextInt(extent + 400) - 200;
+            qy[i] = random.nextInt(extent + 400) - 200;
+        }
+
+        EnemyIndex index = new EnemyIndex();
+        long rebuild = 0;
+        for (int round = 0; round < 20; round++) {
+            long start = System.nanoTime();
+            index.clear();
+            for (AlienObject alien : aliens) {
+                index.add(alien);
+            }
+            index.buildGrid();
+            rebuild = System.nanoTime() - start; // Dernier tour, JIT chaud
+        }
+
+        AlienObject[] out = new AlienObject[Math.max(K, enemies)];
+        long sink = 0;
+        long nearestNanos = 0, kNanos = 0, radiusNanos = 0, linearNanos = 0;
+        for (int pass = 0; pass < 2; pass++) { // Passe 0: chauffe
+            long start = System.nanoTime();
+            for (int i = 0; i < queries; i++) {
+                sink += index.nearest(qx[i], qy[i]).getX();
+            }
+            nearestNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < queries; i++) {
+                sink += index.nearest(qx[i], qy[i], K, out);
+            }
+            kNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < queries; i++) {
+                sink += index.withinRadius(qx[i], qy[i], RADIUS, out);
+            }
+            radiusNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < queries; i++) {
+                sink += linearNearest(aliens, qx[i], qy[i]).getX();
+            }
+            linearNanos = System.nanoTime() - start;
+        }
+
+        for (int i = 0; i < Math.min(queries, 1000); i++) {
+            AlienObject expected = linearNearest(aliens, qx[i], qy[i]);
+            if (index.nearest(qx[i], qy[i]) != expected) {
+                throw new IllegalStateException("Index mismatch for query " + i);
+            }
+        }
+
+        if (!print) return;
+        System.out.printf("%8d %10.1f %10.1f %10.1f %10.1f %10.1f%s%n", enemies, rebuild / 1e3,
+                (double) nearestNanos / queries, (double) kNanos / queries,
+                (double) radiusNanos / queries, (double) linearNanos / queries,
+                sink == 42 ? " " : "");
+    }
+
+    private static AlienObject linearNearest(AlienObject[] aliens, int x, int y) {
+        AlienObject best = null;
+        long bestDist = Long.MAX_VALUE;
+        for (AlienObject alien : aliens) {
+            long dx = alien.getX() - x;
+            long dy = alien.getY() - y;
+            long dist = dx * dx + dy * dy;
+            if (dist < bestDist) {
+                best = alien;
+                bestDist = dist;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,192 @@
+package game;
+
+import java.io.IOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import utils.EntityStore;
+import utils.Logger;
+
+/**
+ * Compare le stockage des entités sur le tas et hors tas sur une scène de stress
+ * (grande formation, milliers de tirs injectés à chaque tick): temps par tick,
+ * activité du GC pendant la scène, mémoire occupée, et écriture du monde en bloc
+ * dans un fichier. Vérifie au passage que les deux stockages jouent la même partie
+ * et qu'un bloc écrit par l'un (writeTo) se relit à l'identique par l'autre (readFrom).
+ * Les passages mesurés alternent l'ordre des stockages (tas puis hors tas, puis l'inverse).
+ *
+ * Usage: java -Djava.awt.headless=true game.EntityStoreBenchmark
+ *            [rangées] [colonnes] [tirs/tick] [ticks]
+ */
+public class EntityStoreBenchmark {
+    private static final int MEASURED_ROUNDS = 2;
+    private static final int ROUND_TRIP_RECORDS = 10_000;
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int cols = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int shotsPerTick = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+        int ticks = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+
+        Logger.setEnabled(false);
+
+        for (EntityStore.Kind writer : EntityStore.Kind.values()) {
+            for (EntityStore.Kind reader : EntityStore.Kind.values()) {
+                checkRoundTrip(writer, reader);
+            }
+        }
+
+        // Premier passage de chaque stockage pour chauffer le JIT
+        for (EntityStore.Kind kind : EntityStore.Kind.values()) {
+            run(kind, rows, cols, shotsPerTick, ticks, new StateTrace(), false);
+        }
+
+        System.out.printf("%dx%d aliens, %d shots/tick, %d ticks%n", rows, cols, shotsPerTick, ticks);
+        System.out.printf("%-9s %9s %6s %8s %10s %10s %10s %9s%n",
+                "storage", "ms/tick", "gcs", "gc ms", "heap MB", "direct MB", "world KB", "write ms");
+        EntityStore.Kind[] kinds = EntityStore.Kind.values();
+        StateTrace reference = null;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            for (int k = 0; k < kinds.length; k++) {
+                // Ordre inversé un passage sur deux: aucun stockage ne profite toujours d'être second
+                EntityStore.Kind kind = kinds[round % 2 == 0 ? k : kinds.length - 1 - k];
+                StateTrace trace = new StateTrace();
+                run(kind, rows, cols, shotsPerTick, ticks, trace, true);
+
+                if (reference == null) {
+                    reference = trace;
+                    continue;
+                }
+                StateTrace.Divergence divergence = reference.firstDivergence(trace);
+                if (divergence != null) {
+                    System.out.println(kind + ": first divergence at " + divergence);
+                    System.exit(1);
+                }
+            }
+        }
+        System.out.println("heap and off-heap traces identical");
+    }
+
+    /**
+     * Écrit un bloc d'enregistrements avec un stockage, le relit avec un autre
+     * et compare chaque champ
+     */
+    private static void checkRoundTrip(EntityStore.Kind writer, EntityStore.Kind reader)
+            throws IOException {
+        int stride = ProjectileBuffer.RECORD_STRIDE;
+        EntityStore written = writer.create(stride, ROUND_TRIP_RECORDS);
+        GameRandom random = new GameRandom(3L);
+        for (int record = 0; record < ROUND_TRIP_RECORDS; record++) {
+            for (int field = 0; field < stride; field++) {
+                written.set(record, field, (int) random.nextLong());
+            }
+        }
+
+        EntityStore read = reader.create(stride, 1); // readFrom agrandit le stockage
+        Path file = Files.createTempFile("store-" + writer.name().toLowerCase(), ".bin");
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                written.writeTo(channel, ROUND_TRIP_RECORDS);
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                read.readFrom(channel, ROUND_TRIP_RECORDS);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        for (int record = 0; record < ROUND_TRIP_RECORDS; record++) {
+            for (int field = 0; field < stride; field++) {
+                if (read.get(record, field) != written.get(record, field)) {
+                    throw new IllegalStateException("Round trip " + writer + " -> " + reader +
+                            " differs at record " + record + ", field " + field);
+                }
+            }
+        }
+        System.out.println("round trip " + writer + " -> " + reader + ": "
+                         + ROUND_TRIP_RECORDS + " records identical");
+    }
+
+    private static void run(EntityStore.Kind kind, int rows, int cols, int shotsPerTick, int ticks,
+                            StateTrace trace, boolean print) throws IOException {
+        System.gc();
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+
+        GameSimulation simulation = new GameSimulation(1L, rows, cols, kind);
+        GameRandom shots = new GameRandom(2L);
+        InputState input = new InputState();
+        int width = cols * 40 + 200;
+        int height = rows * 40 + 200;
+
+        long elapsed = 0;
+        int played = 0;
+        for (int tick = 0; tick < ticks && simulation.getResult() == GameSimulation.Result.RUNNING; tick++) {
+            for (int s = 0; s < shotsPerTick; s++) {
+                simulation.spawnProjectile(shots.nextInt(width), shots.nextInt(height));
+            }
+            long start = System.nanoTime();
+            simulation.step(input);
+            elapsed += System.nanoTime() - start;
+            trace.record(input, simulation);
+            played++;
+        }
+
+        long gcs = gcCount() - gcCountBefore;
+        long gcMillis = gcMillis() - gcMillisBefore;
+
+        // Mémoire vivante seulement: les déchets de la scène sont collectés avant la mesure
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        long heapUsed = runtime.totalMemory() - runtime.freeMemory();
+
+        // Monde entier écrit d'un bloc par stockage
+        Path file = Files.createTempFile("world-" + kind.name().toLowerCase(), ".bin");
+        long written;
+        long writeNanos;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            long start = System.nanoTime();
+            written = simulation.writeWorld(channel);
+            writeNanos = System.nanoTime() - start;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        if (print) {
+            System.out.printf("%-9s %9.3f %6d %8d %10.1f %10.1f %10.1f %9.3f%n",
+                    kind, elapsed / 1e6 / Math.max(1, played), gcs, gcMillis,
+                    heapUsed / 1048576.0, directBytes() / 1048576.0,
+                    written / 1024.0, writeNanos / 1e6);
+        }
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return millis;
+    }
+
+    private static long directBytes() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct")) {
+                return pool.getMemoryUsed();
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,18 @@
+package game;
+
+/**
+ * Horloge de jeu injectable, lue par toute la logique temporisée
+ * (expiration des décorateurs, cadence de tir).
+ */
+public interface GameClock {
+
+    /** Temps de jeu écoulé, en millisecondes */
+    long currentTimeMillis();
+
+    /**
+     * Horloge murale, pour les objets créés hors d'une simulation
+     */
+    static GameClock system() {
+        return System::currentTimeMillis;
+    }
+}
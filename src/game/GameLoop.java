@@ -0,0 +1,235 @@
+package game;
+
+import java.util.function.Consumer;
+import utils.Constants;
+import utils.Logger;
+
+/**
+ * Boucle de jeu à pas fixe sur un thread dédié
+ * La simulation avance par pas constants (horloge System.nanoTime),
+ * avec rattrapage plafonné quand le thread prend du retard.
+ * Le rendu est demandé une fois par frame, après les pas de simulation,
+ * ou à sa propre cadence (framesPerSecond) pour le rendu interpolé.
+ */
+public class GameLoop implements Runnable {
+    private static final long NANOS_PER_MS = 1_000_000L;
+    private static final long SPIN_THRESHOLD_NANOS = 2 * NANOS_PER_MS;
+
+    private final Runnable simulation;
+    private final Runnable renderer;
+    private final long tickNanos;
+    private final long frameNanos; // 0 = une frame par lot de ticks
+    private final int maxStepsPerFrame;
+
+    private Thread thread;
+    private volatile boolean running = false;
+    // Prévenu (sur le thread de la boucle) quand un pas lève une exception
+    private volatile Consumer<RuntimeException> failureHandler;
+    // Exécuté sur le thread de la boucle à sa sortie (bilans des statistiques du thread)
+    private volatile Runnable stopHandler;
+
+    // Statistiques de gigue (retard du début de tick par rapport à l'échéance).
+    // Écrites et lues sur le thread de la boucle seulement: le bilan final est
+    // journalisé par run() à sa sortie, pas par stop()
+    private long tickCount = 0;
+    private long droppedTicks = 0;
+    private long jitterMax = 0;
+    private long jitterSum = 0;
+    private double jitterSumSquares = 0;
+    private long statsWindowStart;
+
+    public GameLoop(int ticksPerSecond, int maxStepsPerFrame,
+                    Runnable simulation, Runnable renderer) {
+        this(ticksPerSecond, 0, maxStepsPerFrame, simulation, renderer);
+    }
+
+    /**
+     * @param framesPerSecond cadence de rendu indépendante de la simulation,
+     *                        0 pour dessiner une fois après chaque lot de ticks
+     */
+    public GameLoop(int ticksPerSecond, int framesPerSecond, int maxStepsPerFrame,
+                    Runnable simulation, Runnable renderer) {
+        this.tickNanos = 1_000_000_000L / ticksPerSecond;
+        this.frameNanos = framesPerSecond > 0 ? 1_000_000_000L / framesPerSecond : 0;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+        this.simulation = simulation;
+        this.renderer = renderer;
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this, "GameLoop");
+        thread.setDaemon(true);
+        thread.start();
+        Logger.info("Game loop started - " + (1_000_000_000L / tickNanos) + " ticks/s, " +
+                   (frameNanos > 0 ? (1_000_000_000L / frameNanos) + " frames/s" : "1 frame per tick") +
+                   ", max " + maxStepsPerFrame + " steps per frame");
+    }
+
+    /**
+     * Arrête la boucle. Peut être appelé depuis le thread de la boucle lui-même
+     * (ex: fin de partie pendant un tick), la boucle sort après le pas courant
+     * et journalise alors ses statistiques.
+     */
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        if (thread != null && thread != Thread.currentThread()) {
+            thread.interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Appelé sur le thread de la boucle si la simulation ou le rendu lève une exception;
+     * la boucle est alors déjà arrêtée
+     */
+    public void setFailureHandler(Consumer<RuntimeException> failureHandler) {
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Appelé sur le thread de la boucle quand elle se termine (arrêt ou exception):
+     * seul endroit sûr pour lire l'état que les pas écrivent sans synchronisation
+     */
+    public void setStopHandler(Runnable stopHandler) {
+        this.stopHandler = stopHandler;
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    @Override
+    public void run() {
+        long nextTick = System.nanoTime();
+        long nextFrame = nextTick;
+        statsWindowStart = nextTick;
+
+        try {
+            while (running) {
+                long now = System.nanoTime();
+                int steps = 0;
+
+                // Rattraper les ticks en retard, dans la limite du plafond
+                while (running && now - nextTick >= 0 && steps < maxStepsPerFrame) {
+                    recordJitter(now - nextTick);
+                    simulation.run();
+                    nextTick += tickNanos;
+                    steps++;
+                    now = System.nanoTime();
+                }
+
+                // Trop de retard: abandonner l'arriéré plutôt que de spiraler
+                if (now - nextTick >= 0) {
+                    long behind = (now - nextTick) / tickNanos + 1;
+                    droppedTicks += behind;
+                    nextTick += behind * tickNanos;
+                }
+
+                if (frameNanos == 0) {
+                    if (steps > 0 && running) {
+                        renderer.run();
+                    }
+                    logStatsIfDue(now);
+                    waitUntil(nextTick);
+                    continue;
+                }
+
+                // Rendu à cadence propre (interpolation entre les ticks)
+                if (now - nextFrame >= 0 && running) {
+                    renderer.run();
+                    nextFrame += frameNanos;
+                    if (System.nanoTime() - nextFrame >= 0) {
+                        nextFrame = System.nanoTime() + frameNanos;
+                    }
+                }
+
+                logStatsIfDue(now);
+                waitUntil(nextTick - nextFrame < 0 ? nextTick : nextFrame);
+            }
+        } catch (RuntimeException e) {
+            Logger.error("Game loop crashed", e);
+            running = false;
+            Consumer<RuntimeException> handler = failureHandler;
+            if (handler != null) {
+                handler.accept(e);
+            }
+        } finally {
+            Logger.info("Game loop stopped - " + getStatsSummary());
+            Runnable handler = stopHandler;
+            if (handler != null) {
+                handler.run();
+            }
+        }
+    }
+
+    /**
+     * Dort jusqu'à l'échéance, puis attend activement la dernière milliseconde
+     * pour ne pas dépendre de la granularité de Thread.sleep
+     */
+    private void waitUntil(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining > SPIN_THRESHOLD_NANOS) {
+            try {
+                Thread.sleep((remaining - NANOS_PER_MS) / NANOS_PER_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        while (running && deadline - System.nanoTime() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void recordJitter(long lateness) {
+        tickCount++;
+        jitterSum += lateness;
+        jitterSumSquares += (double) lateness * lateness;
+        jitterMax = Math.max(jitterMax, lateness);
+    }
+
+    private void logStatsIfDue(long now) {
+        if (now - statsWindowStart >= Constants.LOOP_STATS_INTERVAL_MS * NANOS_PER_MS) {
+            Logger.info("Game loop stats - " + getStatsSummary());
+            statsWindowStart = now;
+        }
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    /** Retard moyen du début de tick, en microsecondes */
+    public double getMeanJitterMicros() {
+        return tickCount == 0 ? 0 : (double) jitterSum / tickCount / 1000.0;
+    }
+
+    /** Écart-type du retard de tick, en microsecondes */
+    public double getJitterStdDevMicros() {
+        if (tickCount == 0) return 0;
+        double mean = (double) jitterSum / tickCount;
+        double variance = jitterSumSquares / tickCount - mean * mean;
+        return Math.sqrt(Math.max(0, variance)) / 1000.0;
+    }
+
+    public double getMaxJitterMicros() {
+        return jitterMax / 1000.0;
+    }
+
+    /** Bilan des statistiques, à lire sur le thread de la boucle (simulation ou rendu) */
+    public String getStatsSummary() {
+        return String.format("ticks=%d dropped=%d jitter(us) mean=%.1f sd=%.1f max=%.1f",
+                tickCount, droppedTicks, getMeanJitterMicros(),
+                getJitterStdDevMicros(), getMaxJitterMicros());
+    }
+}
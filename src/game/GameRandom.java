@@ -0,0 +1,41 @@
+package game;
+
+import java.util.SplittableRandom;
+
+/**
+ * Générateur pseudo-aléatoire d'une session de jeu
+ * Graine explicite (parties rejouables, benchmarks reproductibles) et
+ * découpable en flux indépendants: chaque sous-système tire dans son propre
+ * flux, ajouter des tirages dans l'un ne décale pas les autres.
+ * Non synchronisé: une instance par thread / par simulation, sans contention.
+ */
+public class GameRandom {
+    private final SplittableRandom random;
+
+    public GameRandom(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private GameRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Nouveau flux indépendant dérivé de celui-ci
+     */
+    public GameRandom split() {
+        return new GameRandom(random.split());
+    }
+
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+}
@@ -0,0 +1,690 @@
+package game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import entities.*;
+import patterns.decorator.*;
+import patterns.composite.*;
+import patterns.factory.ProjectileFactory;
+import utils.Constants;
+import utils.EntityStore;
+import utils.Logger;
+
+/**
+ * Moteur de simulation sans interface
+ * Contient toutes les règles du jeu (tirs, projectiles, collisions, power-ups)
+ * et possède la GameScene, la formation, les projectiles et la chaîne de Ship.
+ * Aucune dépendance à Swing ni à Board: fonctionne avec java.awt.headless=true.
+ * L'appelant fait avancer le jeu avec step() et réagit au Result retourné.
+ */
+public class GameSimulation {
+
+    public enum Result {
+        RUNNING, WON, LOST
+    }
+
+    private Player player;
+    private Ship playerShip;
+    private GameScene gameScene;
+    private AlienFormation alienFormation;
+    private final ProjectileBuffer projectiles;
+    private int score;
+    private int lastPowerUpScore = 0;
+    private int powerUpsApplied = 0;
+    private Result result = Result.RUNNING;
+
+    private int playerX;
+    private int playerY;
+    private int previousPlayerX; // Position au début du tick (interpolation)
+
+    private final TickClock clock;
+    private final long seed;
+    // Flux aléatoires indépendants de la session (créés dans un ordre fixe)
+    private final GameRandom powerUpRandom;
+    private final GameRandom enemyFireRandom;
+    private final GameRandom effectsRandom;
+    private long lastShotTime;
+    private long tickCount = 0;
+
+    // Broad phase des collisions, réinscrite à chaque tick après le déplacement des aliens:
+    // un alien par entrée, ou une formation en grille entière (résolue par hitTest)
+    private final SpatialHashGrid<GameComponent> alienGrid =
+        new SpatialHashGrid<>(Constants.COLLISION_CELL_SIZE,
+                              Constants.ALIEN_ROWS * Constants.ALIEN_COLUMNS);
+    private AlienFormation[] gridFormations = new AlienFormation[Constants.ALIEN_ROWS * Constants.ALIEN_COLUMNS];
+
+    // Requêtes de proximité (tirs à tête chercheuse), réindexé au plus une fois par tick
+    private final EnemyIndex enemyIndex = new EnemyIndex();
+    private long enemyIndexTick = -1;
+
+    // Phase fine parallèle (null = toujours en série), pour les scènes de stress
+    private ParallelCollisionPass parallelPass;
+
+    private final int alienRows;
+    private final int alienColumns;
+    private final EntityStore.Kind storage;
+
+    public GameSimulation() {
+        this(System.nanoTime());
+    }
+
+    /**
+     * @param seed graine de la session: même graine + mêmes entrées = même partie
+     */
+    public GameSimulation(long seed) {
+        this(seed, Constants.ALIEN_ROWS, Constants.ALIEN_COLUMNS);
+    }
+
+    /**
+     * @param alienRows rangées de la formation (scènes de stress: au-delà de l'écran)
+     * @param alienColumns colonnes de la formation
+     */
+    public GameSimulation(long seed, int alienRows, int alienColumns) {
+        this(seed, alienRows, alienColumns, EntityStore.Kind.HEAP);
+    }
+
+    /**
+     * @param storage stockage des aliens et des projectiles (hors tas: grandes scènes)
+     */
+    public GameSimulation(long seed, int alienRows, int alienColumns, EntityStore.Kind storage) {
+        this.seed = seed;
+        this.alienRows = alienRows;
+        this.alienColumns = alienColumns;
+        this.storage = storage;
+        this.projectiles = new ProjectileBuffer(64, storage);
+        GameRandom sessionRandom = new GameRandom(seed);
+        this.powerUpRandom = sessionRandom.split();
+        this.enemyFireRandom = sessionRandom.split();
+        this.effectsRandom = sessionRandom.split();
+        this.clock = new TickClock(Constants.TICKS_PER_SECOND);
+        this.player = new Player();
+        this.score = 0;
+        this.playerX = 400;
+        this.playerY = 550;
+        this.previousPlayerX = playerX;
+        this.lastShotTime = -Constants.BASE_FIRE_RATE; // Premier tir disponible immédiatement
+
+        setup();
+    }
+
+    private void setup() {
+        Logger.info("Setting up game with all design patterns... (seed=" + seed + ")");
+
+        // Initialize with BasicShip
+        playerShip = new BasicShip(player, clock);
+        Logger.decorator("BasicShip created - Speed:" + playerShip.getSpeed() +
+                        " FireRate:" + playerShip.getFireRate() + "ms");
+
+        gameScene = new GameScene();
+        Logger.composite("GameScene created (root composite)");
+
+        createAlienFormation();
+
+        Logger.info("Game setup complete - All 4 patterns active!");
+    }
+
+    private void createAlienFormation() {
+        Logger.composite("Creating alien formation...");
+
+        alienFormation = AlienFormation.createRectangularFormation(
+            "MainFormation", alienRows, alienColumns, 150, 50, 40, storage
+        );
+
+        alienFormation.setSpeed(1);
+        gameScene.getEnemyGroup().add(alienFormation);
+
+        Logger.composite("AlienFormation (" + alienRows + "x" + alienColumns + "=" +
+                        (alienRows * alienColumns) + " aliens) added to GameScene");
+    }
+
+    /**
+     * Avance la simulation d'un pas fixe
+     * @param input état du clavier pour ce tick
+     * @return RUNNING tant que la partie continue, puis WON ou LOST
+     */
+    public Result step(InputState input) {
+        if (result != Result.RUNNING) {
+            return result;
+        }
+
+        clock.advance();
+        previousPlayerX = playerX;
+        applyInput(input);
+
+        gameScene.update();
+        updateProjectiles();
+        checkCollisions();
+        playerShip.update(); // Updates decorators
+        tickCount++;
+
+        return result;
+    }
+
+    /**
+     * Applique l'état du clavier pour ce tick: déplacement déterministe
+     * (vitesse du décorateur par tick, indépendant de la répétition auto de l'OS)
+     */
+    private void applyInput(InputState input) {
+        // Get speed DIRECTLY from decorator
+        int speed = playerShip.getSpeed();
+        if (input.isActive(InputState.LEFT)) {
+            playerX -= speed;
+            if (playerX < 30) playerX = 30;
+        }
+        if (input.isActive(InputState.RIGHT)) {
+            playerX += speed;
+            if (playerX > 770) playerX = 770;
+        }
+
+        if (input.isActive(InputState.FIRE)) {
+            fireProjectile(); // Uses decorator fire rate
+        }
+    }
+
+    private void checkAndApplyPowerUps() {
+        if (score >= lastPowerUpScore + 50 && score > 0) {
+            lastPowerUpScore = score;
+            applyRandomPowerUp();
+        }
+    }
+
+    private void applyRandomPowerUp() {
+        int random = powerUpRandom.nextInt(4);
+
+        String powerUpName = "";
+        switch(random) {
+            case 0:
+                playerShip = new SpeedBoostDecorator(playerShip);
+                powerUpName = "SpeedBoost (Speed x2)";
+                break;
+            case 1:
+                playerShip = new TripleShotDecorator(playerShip);
+                powerUpName = "TripleShot (3 bullets)";
+                break;
+            case 2:
+                playerShip = new RapidFireDecorator(playerShip);
+                powerUpName = "RapidFire (Cooldown x0.5)";
+                break;
+            case 3:
+                playerShip = new ShieldDecorator(playerShip);
+                powerUpName = "Shield (3 hits)";
+                break;
+        }
+
+        powerUpsApplied++;
+        Logger.decorator(powerUpName + " applied! Current stats: Speed=" +
+                        playerShip.getSpeed() + " FireRate=" + playerShip.getFireRate());
+    }
+
+    /**
+     * CRITICAL FIX: Directly use decorator values instead of caching
+     */
+    private void fireProjectile() {
+        long currentTime = clock.currentTimeMillis();
+
+        // Get fire rate DIRECTLY from decorator (not cached)
+        long shotCooldown = playerShip.getFireRate();
+
+        if (currentTime - lastShotTime < shotCooldown) {
+            return; // Still on cooldown
+        }
+
+        // Get fire power DIRECTLY from decorator
+        int firePower = playerShip.getFirePower();
+
+        if (firePower == 1) {
+            // Normal single shot
+            projectiles.spawn(Constants.NORMAL_PROJECTILE_ID, playerX, playerY - 20);
+            Logger.info("Normal shot fired (FirePower=1)");
+
+        } else if (firePower >= 3) {
+            // Triple shot
+            projectiles.spawn(Constants.NORMAL_PROJECTILE_ID, playerX - 15, playerY - 20);
+            projectiles.spawn(Constants.NORMAL_PROJECTILE_ID, playerX, playerY - 20);
+            projectiles.spawn(Constants.NORMAL_PROJECTILE_ID, playerX + 15, playerY - 20);
+            Logger.info("Triple shot fired! (FirePower=" + firePower + ")");
+        }
+
+        lastShotTime = currentTime;
+    }
+
+    /**
+     * Retire les projectiles détruits ou sortis de l'écran, avance les autres
+     */
+    private void updateProjectiles() {
+        projectiles.advance(0, Constants.SCREEN_SIZE.height);
+    }
+
+    private void checkCollisions() {
+        rebuildAlienGrid();
+        // Boîte de tous les ennemis: ne peut que rétrécir pendant la boucle (rejet sûr)
+        Bounds enemyBounds = gameScene.getEnemyGroup().getBounds();
+
+        if (parallelPass != null && projectiles.size() >= Constants.PARALLEL_COLLISION_THRESHOLD) {
+            if (!applyParallelHits(enemyBounds)) {
+                return; // Partie gagnée
+            }
+            checkAndApplyPowerUps();
+            checkAlienReachedPlayer();
+            return;
+        }
+
+        for (int p = 0; p < projectiles.size(); p++) {
+            if (!projectiles.isLive(p) || !projectiles.isPlayerShot(p)) continue;
+
+            AlienObject alien = sweepHit(projectiles, p, enemyBounds, alienGrid, null, gridFormations);
+            if (alien != null && !applyHit(p, alien)) {
+                return;
+            }
+        }
+
+        checkAndApplyPowerUps();
+        checkAlienReachedPlayer();
+    }
+
+    /**
+     * Collision continue: le centre du tir montant p a parcouru ce tick le segment vertical
+     * allant de y - vitesse (position précédente) à y. Rend l'alien actif dont le masque
+     * touche en premier celui du tir sur ce trajet (voir AlienObject.sweepEntry), ou null.
+     * Un tir rapide ne peut donc plus traverser un alien entre deux ticks.
+     *
+     * Lecture seule: appelé aussi depuis les bandes parallèles avec leur propre curseur.
+     * @param query curseur de requête, null pour celui de la grille (thread de simulation)
+     */
+    static AlienObject sweepHit(ProjectileBuffer projectiles, int p, Bounds enemyBounds,
+                                SpatialHashGrid<GameComponent> grid, SpatialHashGrid.Query query,
+                                AlienFormation[] gridFormations) {
+        CollisionMask shot = ProjectileFactory.collisionMaskOf(projectiles.getType(p));
+        int px = projectiles.getX(p);
+        int yTop = projectiles.getY(p);
+        int yBottom = yTop - projectiles.getVelocityY(p);
+
+        // Boîte balayée par le masque du tir
+        int minX = px - shot.getWidth() / 2;
+        int maxX = minX + shot.getWidth() - 1;
+        int minY = yTop - shot.getHeight() / 2;
+        int maxY = yBottom - shot.getHeight() / 2 + shot.getHeight() - 1;
+        if (!enemyBounds.intersects(minX, minY, maxX, maxY)) {
+            return null; // Loin de toute formation
+        }
+
+        // Seuls les aliens des cellules recoupées par la boîte balayée sont testés
+        int candidates = query == null ? grid.query(minX, minY, maxX, maxY)
+                                       : grid.query(query, minX, minY, maxX, maxY);
+        AlienObject earliest = null;
+        int earliestEntry = AlienObject.NO_HIT;
+
+        for (int i = 0; i < candidates; i++) {
+            int index = query == null ? grid.getCandidateIndex(i) : query.get(i);
+            GameComponent candidate = grid.getItem(index);
+            AlienFormation formation = gridFormations[index];
+
+            AlienObject alien;
+            if (candidate == formation) {
+                alien = formation.sweepTest(shot, px, yTop, yBottom); // Cases traversées seulement
+            } else {
+                alien = (AlienObject) candidate;
+                if (!alien.isActive()) continue;
+            }
+
+            // Point d'entrée du tir montant: premier contact des masques sur son trajet
+            if (alien != null) {
+                int entry = alien.sweepEntry(shot, px, yTop, yBottom);
+                if (entry > earliestEntry) {
+                    earliest = alien;
+                    earliestEntry = entry;
+                }
+            }
+        }
+        return earliest;
+    }
+
+    /**
+     * Applique une touche
+     * @return false si la partie est gagnée (arrêter la passe)
+     */
+    private boolean applyHit(int projectile, AlienObject alien) {
+        AlienFormation formation = alien.getFormation();
+        projectiles.kill(projectile);
+        alien.hit();
+        score += 10;
+
+        Logger.info("Hit! Score: " + score + " (Remaining: " +
+                   formation.countActiveComponents() + ")");
+
+        if (formation.countActiveComponents() == 0) {
+            finish(Result.WON);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Chemin parallèle: les bandes calculent la première touche de chaque tir sur
+     * l'état du début de passe, puis les touches sont appliquées ici dans l'ordre
+     * des projectiles. Les aliens ne font que disparaître: une touche dont l'alien
+     * est encore actif reste la première; sinon (alien détruit par un tir précédent)
+     * le tir est réévalué ici, exactement comme dans la boucle série.
+     * @return false si la partie est gagnée
+     */
+    private boolean applyParallelHits(Bounds enemyBounds) {
+        if (enemyBounds.isEmpty()) {
+            return true;
+        }
+        parallelPass.run(projectiles, alienGrid, gridFormations, enemyBounds);
+
+        for (int p = 0; p < projectiles.size(); p++) {
+            AlienObject alien = parallelPass.getHit(p);
+            if (alien == null) continue;
+
+            if (!alien.isActive()) {
+                alien = sweepHit(projectiles, p, enemyBounds, alienGrid, null, gridFormations);
+                if (alien == null) continue;
+            }
+            if (!applyHit(p, alien)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Index de proximité des aliens actifs, reconstruit à la première demande du tick
+     * (après le déplacement des formations). Les aliens détruits ensuite sont ignorés.
+     */
+    public EnemyIndex getEnemyIndex() {
+        if (enemyIndexTick != tickCount) {
+            enemyIndex.rebuild(gameScene.getEnemyGroup());
+            enemyIndexTick = tickCount;
+        }
+        return enemyIndex;
+    }
+
+    /**
+     * Active la phase fine parallèle au-delà de PARALLEL_COLLISION_THRESHOLD projectiles
+     * @param pool pool des bandes, null pour rester en série
+     */
+    public void setCollisionPool(ForkJoinPool pool) {
+        this.parallelPass = pool == null ? null : new ParallelCollisionPass(pool);
+    }
+
+    /**
+     * Écrit les entités du monde: chaque formation (en-tête puis enregistrements d'un bloc),
+     * puis les projectiles. Entiers dans l'ordre d'octets natif.
+     * En-têtes: [tick, formations], par formation [x, y, emplacements, stride],
+     * puis [projectiles, stride].
+     * @return nombre d'octets écrits
+     */
+    public long writeWorld(WritableByteChannel channel) throws IOException {
+        List<AlienFormation> formations = new ArrayList<>();
+        for (GameComponent component : gameScene.getEnemyGroup().getChildren()) {
+            if (component instanceof AlienFormation) {
+                formations.add((AlienFormation) component);
+            }
+        }
+
+        long written = writeHeader(channel, (int) tickCount, formations.size());
+        for (AlienFormation formation : formations) {
+            written += writeHeader(channel, formation.getX(), formation.getY(),
+                                   formation.getSlotCount(), AlienFormation.RECORD_STRIDE);
+            written += formation.writeRecords(channel);
+        }
+        written += writeHeader(channel, projectiles.size(), ProjectileBuffer.RECORD_STRIDE);
+        written += projectiles.writeTo(channel);
+        return written;
+    }
+
+    private static long writeHeader(WritableByteChannel channel, int... values) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(values.length * Integer.BYTES)
+                                      .order(ByteOrder.nativeOrder());
+        header.asIntBuffer().put(values);
+        long written = 0;
+        while (header.hasRemaining()) {
+            written += channel.write(header);
+        }
+        return written;
+    }
+
+    public EntityStore.Kind getStorageKind() {
+        return storage;
+    }
+
+    /**
+     * Ajoute un tir normal hors cadence du vaisseau (scènes de stress, benchmarks)
+     */
+    public void spawnProjectile(int x, int y) {
+        projectiles.spawn(Constants.NORMAL_PROJECTILE_ID, x, y);
+    }
+
+    /**
+     * Réinscrit les aliens actifs dans la grille, dans l'ordre de l'arbre
+     * (même ordre de résolution que le parcours complet).
+     * Une formation en grille est inscrite d'un bloc: hitTest trouve ensuite la case.
+     */
+    private void rebuildAlienGrid() {
+        alienGrid.clear();
+        for (GameComponent component : gameScene.getEnemyGroup().getChildren()) {
+            if (component instanceof AlienFormation) {
+                AlienFormation formation = (AlienFormation) component;
+
+                if (formation.isGridLayout()) {
+                    insertIntoGrid(formation, formation,
+                                   formation.getGridLeft(), formation.getGridTop(),
+                                   formation.getGridRight(), formation.getGridBottom());
+                    continue;
+                }
+
+                int halfWidth = AlienObject.WIDTH / 2;
+                int halfHeight = AlienObject.HEIGHT / 2;
+                for (int s = formation.nextAliveSlot(0); s >= 0; s = formation.nextAliveSlot(s + 1)) {
+                    int ax = formation.getAlienX(s);
+                    int ay = formation.getAlienY(s);
+                    insertIntoGrid(formation.getAlien(s), formation,
+                                   ax - halfWidth, ay - halfHeight,
+                                   ax + halfWidth, ay + halfHeight);
+                }
+            }
+        }
+    }
+
+    private void insertIntoGrid(GameComponent item, AlienFormation formation,
+                                int minX, int minY, int maxX, int maxY) {
+        if (alienGrid.size() == gridFormations.length) {
+            gridFormations = Arrays.copyOf(gridFormations, gridFormations.length * 2);
+        }
+        gridFormations[alienGrid.size()] = formation;
+        alienGrid.insert(item, minX, minY, maxX, maxY);
+    }
+
+    private void checkAlienReachedPlayer() {
+        // Aucun alien n'a pu passer la ligne si la boîte des ennemis reste au-dessus
+        Bounds enemyBounds = gameScene.getEnemyGroup().getBounds();
+        if (enemyBounds.isEmpty() || enemyBounds.getMaxY() <= Constants.ALIEN_GAME_OVER_Y) {
+            return;
+        }
+
+        for (GameComponent component : gameScene.getEnemyGroup().getChildren()) {
+            if (component instanceof AlienFormation) {
+                AlienFormation formation = (AlienFormation) component;
+                for (int s = formation.nextAliveSlot(0); s >= 0; s = formation.nextAliveSlot(s + 1)) {
+                    if (formation.getAlienY(s) > 500) {
+                        Logger.info("Alien reached player - Game Over!");
+                        finish(Result.LOST);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private void finish(Result outcome) {
+        result = outcome;
+        Logger.info((outcome == Result.WON ? "VICTORY!" : "GAME OVER!") +
+                   " Final score: " + score + " after " + tickCount + " ticks");
+    }
+
+    /**
+     * Hache l'état complet de la simulation, un hash par StateHasher.Field
+     * @param out tableau de StateHasher.FIELD_COUNT cases
+     */
+    public void hashState(StateHasher hasher, long[] out) {
+        out[StateHasher.Field.CLOCK.ordinal()] =
+            hasher.reset().add(tickCount).add(clock.currentTimeMillis()).get();
+
+        hasher.reset();
+        for (GameComponent component : gameScene.getEnemyGroup().getChildren()) {
+            if (component instanceof AlienFormation) {
+                hasher.add(component.getX()).add(component.getY());
+                for (GameComponent alienComp : component.getChildren()) {
+                    hasher.add(alienComp.getX()).add(alienComp.getY()).add(alienComp.isActive());
+                }
+            }
+        }
+        out[StateHasher.Field.ALIENS.ordinal()] = hasher.get();
+
+        hasher.reset().add(projectiles.size());
+        for (int p = 0; p < projectiles.size(); p++) {
+            hasher.add(projectiles.getX(p)).add(projectiles.getY(p)).add(projectiles.isLive(p));
+        }
+        out[StateHasher.Field.PROJECTILES.ordinal()] = hasher.get();
+
+        out[StateHasher.Field.PLAYER.ordinal()] =
+            hasher.reset().add(playerX).add(playerY).add(lastShotTime).get();
+
+        out[StateHasher.Field.SCORE.ordinal()] =
+            hasher.reset().add(score).add(lastPowerUpScore).add(powerUpsApplied).get();
+
+        // Pile de décorateurs: type, date d'application, puis stats effectives
+        hasher.reset();
+        Ship layer = playerShip;
+        while (layer instanceof ShipDecorator) {
+            ShipDecorator decorator = (ShipDecorator) layer;
+            hasher.add(decorator.getClass().getName().hashCode())
+                  .add(decorator.getAppliedTime())
+                  .add(decorator.isExpired());
+            layer = decorator.getDecoratedShip();
+        }
+        hasher.add(playerShip.getSpeed()).add(playerShip.getFireRate())
+              .add(playerShip.getFirePower()).add(playerShip.hasShield());
+        out[StateHasher.Field.SHIP.ordinal()] = hasher.get();
+    }
+
+    /**
+     * Copie l'état visible dans un snapshot immuable
+     * (le rendu ne touche jamais l'état vivant de la simulation)
+     */
+    public RenderSnapshot snapshot(boolean paused) {
+        int alienCount = alienFormation.countActiveComponents();
+        int[] alienX = new int[alienCount];
+        int[] alienY = new int[alienCount];
+        int[] alienDx = new int[alienCount];
+        int[] alienDy = new int[alienCount];
+        int[] alienColor = new int[alienCount];
+        int a = 0;
+        for (GameComponent component : gameScene.getEnemyGroup().getChildren()) {
+            if (component instanceof AlienFormation) {
+                AlienFormation formation = (AlienFormation) component;
+                for (int s = formation.nextAliveSlot(0); s >= 0 && a < alienCount;
+                     s = formation.nextAliveSlot(s + 1)) {
+                    alienX[a] = formation.getAlienX(s);
+                    alienY[a] = formation.getAlienY(s);
+                    alienDx[a] = formation.getLastMoveX();
+                    alienDy[a] = formation.getLastMoveY();
+                    alienColor[a] = formation.getAlienRgb(s);
+                    a++;
+                }
+            }
+        }
+        if (a < alienCount) {
+            alienX = Arrays.copyOf(alienX, a);
+            alienY = Arrays.copyOf(alienY, a);
+            alienDx = Arrays.copyOf(alienDx, a);
+            alienDy = Arrays.copyOf(alienDy, a);
+            alienColor = Arrays.copyOf(alienColor, a);
+        }
+
+        int projectileCount = 0;
+        for (int i = 0; i < projectiles.size(); i++) {
+            if (projectiles.isLive(i)) projectileCount++;
+        }
+        int[] projectileX = new int[projectileCount];
+        int[] projectileY = new int[projectileCount];
+        int[] projectileDy = new int[projectileCount];
+        int p = 0;
+        for (int i = 0; i < projectiles.size(); i++) {
+            if (projectiles.isLive(i)) {
+                projectileX[p] = projectiles.getX(i);
+                projectileY[p] = projectiles.getY(i);
+                projectileDy[p] = projectiles.getVelocityY(i);
+                p++;
+            }
+        }
+
+        return new RenderSnapshot(
+            tickCount, System.nanoTime(), paused,
+            alienX, alienY, alienDx, alienDy, alienColor,
+            projectileX, projectileY, projectileDy,
+            playerX, playerY, previousPlayerX, playerShip.hasShield(),
+            score, a, lastPowerUpScore + 50,
+            playerShip.getStatus(), playerShip.getSpeed(),
+            playerShip.getFireRate(), playerShip.getFirePower()
+        );
+    }
+
+    public Result getResult() {
+        return result;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Flux réservé aux tirs ennemis */
+    public GameRandom getEnemyFireRandom() {
+        return enemyFireRandom;
+    }
+
+    /** Flux réservé aux effets visuels (sans influence sur la partie) */
+    public GameRandom getEffectsRandom() {
+        return effectsRandom;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    public int getPowerUpsApplied() {
+        return powerUpsApplied;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public int getPlayerX() {
+        return playerX;
+    }
+
+    public int getAliensRemaining() {
+        return alienFormation.countActiveComponents();
+    }
+
+    public GameScene getGameScene() {
+        return gameScene;
+    }
+
+    public Ship getPlayerShip() {
+        return playerShip;
+    }
+}
@@ -0,0 +1,50 @@
+package game;
+
+import utils.Logger;
+
+/**
+ * Lance des parties complètes sans fenêtre et mesure le débit de la simulation
+ * Usage: java -Djava.awt.headless=true game.HeadlessRunner [parties] [ticksMax]
+ */
+public class HeadlessRunner {
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        long maxTicks = args.length > 1 ? Long.parseLong(args[1]) : 100_000;
+
+        Logger.setEnabled(false);
+
+        long totalTicks = 0;
+        long start = System.nanoTime();
+        for (int game = 0; game < games; game++) {
+            GameSimulation simulation = new GameSimulation(game);
+            InputState input = new InputState();
+
+            while (simulation.getResult() == GameSimulation.Result.RUNNING &&
+                   simulation.getTickCount() < maxTicks) {
+                applySweepPolicy(simulation.getTickCount(), input);
+                simulation.step(input);
+            }
+
+            totalTicks += simulation.getTickCount();
+            System.out.printf("game %d: %s score=%d ticks=%d%n", game,
+                    simulation.getResult(), simulation.getScore(), simulation.getTickCount());
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d games, %d ticks in %.2f s -> %.0f ticks/s%n",
+                games, totalTicks, seconds, totalTicks / seconds);
+    }
+
+    /**
+     * Entrée scriptée: balaie l'écran de gauche à droite en tirant en continu
+     */
+    private static void applySweepPolicy(long tick, InputState input) {
+        boolean goingRight = (tick / 90) % 2 == 0;
+        input.clearEdges();
+        input.set(InputState.RIGHT, goingRight);
+        input.set(InputState.LEFT, !goingRight);
+        input.set(InputState.FIRE, true);
+    }
+}
@@ -0,0 +1,86 @@
+package game;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * File d'événements clavier sans verrou entre l'EDT et la simulation
+ * L'EDT enregistre les transitions appui/relâchement horodatées (nanoTime);
+ * le thread de simulation les vide une fois par tick dans un InputState.
+ * C'est aussi le point de mesure de la latence d'entrée.
+ */
+public class InputQueue {
+
+    private static final class InputEvent {
+        final int action;
+        final boolean pressed;
+        final long nanos;
+
+        InputEvent(int action, boolean pressed, long nanos) {
+            this.action = action;
+            this.pressed = pressed;
+            this.nanos = nanos;
+        }
+    }
+
+    private final ConcurrentLinkedQueue<InputEvent> events = new ConcurrentLinkedQueue<>();
+
+    // Latence événement -> prise en compte par la simulation (thread de simulation,
+    // à lire sur ce thread seulement: voir GameLoop.setStopHandler)
+    private long eventCount = 0;
+    private long latencySum = 0;
+    private long latencyMax = 0;
+
+    public void keyDown(int action) {
+        events.offer(new InputEvent(action, true, System.nanoTime()));
+    }
+
+    public void keyUp(int action) {
+        events.offer(new InputEvent(action, false, System.nanoTime()));
+    }
+
+    /**
+     * Relâche toutes les actions (perte de focus: évite les touches "collées")
+     */
+    public void releaseAll() {
+        long now = System.nanoTime();
+        for (int action = 0; action < InputState.ACTION_COUNT; action++) {
+            events.offer(new InputEvent(action, false, now));
+        }
+    }
+
+    /**
+     * Applique tous les événements en attente, dans l'ordre d'arrivée
+     * @return nombre d'événements appliqués
+     */
+    public int drainInto(InputState state) {
+        state.clearEdges();
+
+        long now = System.nanoTime();
+        int drained = 0;
+        InputEvent event;
+        while ((event = events.poll()) != null) {
+            if (event.pressed) {
+                state.press(event.action);
+            } else {
+                state.release(event.action);
+            }
+
+            long latency = now - event.nanos;
+            latencySum += latency;
+            latencyMax = Math.max(latencyMax, latency);
+            eventCount++;
+            drained++;
+        }
+        return drained;
+    }
+
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    public String getLatencySummary() {
+        double mean = eventCount == 0 ? 0 : (double) latencySum / eventCount / 1000.0;
+        return String.format("events=%d latency(us) mean=%.1f max=%.1f",
+                eventCount, mean, latencyMax / 1000.0);
+    }
+}
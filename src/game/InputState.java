@@ -0,0 +1,84 @@
+package game;
+
+import java.util.BitSet;
+
+/**
+ * État du clavier vu par la simulation, mis à jour une fois par tick
+ * Les touches sont abstraites en actions de jeu: aucune dépendance à AWT.
+ */
+public class InputState {
+    public static final int LEFT = 0;
+    public static final int RIGHT = 1;
+    public static final int FIRE = 2;
+    public static final int PAUSE = 3;
+    public static final int ACTION_COUNT = 4;
+
+    private final BitSet down = new BitSet(ACTION_COUNT);
+    private final BitSet pressed = new BitSet(ACTION_COUNT);
+
+    /**
+     * Début d'un tick: oublie les fronts montants du tick précédent
+     */
+    public void clearEdges() {
+        pressed.clear();
+    }
+
+    void press(int action) {
+        if (!down.get(action)) {
+            pressed.set(action); // Front montant (la répétition auto est ignorée)
+        }
+        down.set(action);
+    }
+
+    void release(int action) {
+        down.clear(action);
+    }
+
+    /** Touche maintenue à la fin du tick */
+    public boolean isDown(int action) {
+        return down.get(action);
+    }
+
+    /** Touche enfoncée pendant ce tick (même si relâchée aussitôt) */
+    public boolean wasPressed(int action) {
+        return pressed.get(action);
+    }
+
+    /** Maintenue ou tapée pendant ce tick: une frappe brève compte pour un pas */
+    public boolean isActive(int action) {
+        return down.get(action) || pressed.get(action);
+    }
+
+    /**
+     * Encode l'état du tick (actions maintenues + fronts) pour l'enregistrer
+     */
+    public int toBits() {
+        int bits = 0;
+        for (int action = 0; action < ACTION_COUNT; action++) {
+            if (down.get(action)) bits |= 1 << action;
+            if (pressed.get(action)) bits |= 1 << (action + ACTION_COUNT);
+        }
+        return bits;
+    }
+
+    /**
+     * Restaure exactement un état encodé par toBits() (rejeu)
+     */
+    public void fromBits(int bits) {
+        down.clear();
+        pressed.clear();
+        for (int action = 0; action < ACTION_COUNT; action++) {
+            if ((bits & (1 << action)) != 0) down.set(action);
+            if ((bits & (1 << (action + ACTION_COUNT))) != 0) pressed.set(action);
+        }
+    }
+
+    /** Force l'état d'une action (entrées générées sans clavier) */
+    public void set(int action, boolean isDown) {
+        if (isDown) {
+            press(action);
+        } else {
+            release(action);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package game;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import patterns.composite.AlienFormation;
+import patterns.composite.AlienObject;
+import patterns.composite.Bounds;
+import patterns.composite.GameComponent;
+
+/**
+ * Phase fine des collisions en parallèle, par bandes horizontales
+ * Chaque bande teste ses projectiles contre la grille (lecture seule, curseur propre)
+ * et note la première touche de chacun dans l'état du début de la passe, sans rien modifier.
+ * GameSimulation applique ensuite ces touches en série, projectile par projectile
+ * dans l'ordre des indices: le résultat est celui du chemin série.
+ */
+final class ParallelCollisionPass {
+    private static final int BANDS_PER_THREAD = 2;
+
+    private final ForkJoinPool pool;
+    private final Band[] bands;
+
+    // Première touche par projectile (indice dans le buffer), null = aucune
+    private AlienObject[] hits = new AlienObject[0];
+
+    ParallelCollisionPass(ForkJoinPool pool) {
+        this.pool = pool;
+        this.bands = new Band[pool.getParallelism() * BANDS_PER_THREAD];
+        for (int b = 0; b < bands.length; b++) {
+            bands[b] = new Band();
+        }
+    }
+
+    /**
+     * Répartit les tirs montants actifs dans les bandes et lance les bandes sur le pool
+     */
+    void run(ProjectileBuffer projectiles, SpatialHashGrid<GameComponent> grid,
+             AlienFormation[] gridFormations, Bounds enemyBounds) {
+        int count = projectiles.size();
+        if (hits.length < count) {
+            hits = new AlienObject[Math.max(count, hits.length * 2)];
+        }
+        Arrays.fill(hits, 0, count, null);
+        for (Band band : bands) {
+            band.reset(projectiles, grid, gridFormations, enemyBounds);
+        }
+
+        // Bandes de hauteur égale sur la boîte des ennemis (position actuelle du tir)
+        int top = enemyBounds.getMinY();
+        long height = (long) enemyBounds.getMaxY() - top + 1;
+        for (int p = 0; p < count; p++) {
+            if (!projectiles.isLive(p) || !projectiles.isPlayerShot(p)) continue;
+
+            long offset = Math.max(0, Math.min(height - 1, projectiles.getY(p) - top));
+            bands[(int) (offset * bands.length / height)].addProjectile(p);
+        }
+
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(bands);
+            }
+        });
+    }
+
+    AlienObject getHit(int projectileIndex) {
+        return hits[projectileIndex];
+    }
+
+    /**
+     * Une bande: ses projectiles, par ordre croissant d'indice
+     */
+    private final class Band extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final SpatialHashGrid.Query query = new SpatialHashGrid.Query();
+        private int[] projectileIndices = new int[16];
+        private int projectileCount;
+
+        private ProjectileBuffer projectiles;
+        private SpatialHashGrid<GameComponent> grid;
+        private AlienFormation[] gridFormations;
+        private Bounds enemyBounds;
+
+        void reset(ProjectileBuffer projectiles, SpatialHashGrid<GameComponent> grid,
+                   AlienFormation[] gridFormations, Bounds enemyBounds) {
+            this.projectiles = projectiles;
+            this.grid = grid;
+            this.gridFormations = gridFormations;
+            this.enemyBounds = enemyBounds;
+            projectileCount = 0;
+            reinitialize(); // La même tâche resert à chaque tick
+        }
+
+        void addProjectile(int index) {
+            if (projectileCount == projectileIndices.length) {
+                projectileIndices = Arrays.copyOf(projectileIndices, projectileCount * 2);
+            }
+            projectileIndices[projectileCount++] = index;
+        }
+
+        @Override
+        protected void compute() {
+            for (int i = 0; i < projectileCount; i++) {
+                int p = projectileIndices[i];
+                hits[p] = GameSimulation.sweepHit(projectiles, p, enemyBounds,
+                                                  grid, query, gridFormations);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package game;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+import patterns.factory.ProjectileFactory;
+import utils.EntityStore;
+import utils.Logger;
+
+/**
+ * Projectiles vivants (tirs du joueur et bombes aliens) rangés dans un EntityStore
+ * Un projectile n'est qu'un indice d'enregistrement: position, vitesse verticale, dégâts
+ * et type (identifiants de Constants). Vitesse et dégâts de chaque type viennent de
+ * ProjectileFactory. Aucune allocation par tir; le stockage double seulement quand
+ * la capacité est atteinte.
+ *
+ * Un projectile touché est d'abord marqué mort (kill), ce qui garde les indices stables
+ * pendant la passe de collisions; advance() le retire au tick suivant par swap-remove
+ * (le dernier prend sa place), en O(1) par retrait. L'ordre des indices n'est donc pas
+ * l'ordre de tir, mais il reste entièrement déterminé par la suite des ticks.
+ */
+public final class ProjectileBuffer {
+    // Champs d'un enregistrement (EntityStore)
+    private static final int X = 0;
+    private static final int Y = 1;
+    private static final int VELOCITY_Y = 2; // < 0: vers le haut (joueur), > 0: vers le bas (bombes)
+    private static final int DAMAGE = 3;
+    private static final int TYPE = 4;
+    private static final int LIVE = 5;
+    public static final int RECORD_STRIDE = 6;
+
+    private final EntityStore store;
+    private int count = 0;
+
+    public ProjectileBuffer(int capacity) {
+        this(capacity, EntityStore.Kind.HEAP);
+    }
+
+    /**
+     * @param storage tas, ou hors tas pour les très grandes scènes
+     */
+    public ProjectileBuffer(int capacity, EntityStore.Kind storage) {
+        this.store = storage.create(RECORD_STRIDE, capacity);
+    }
+
+    /**
+     * Ajoute un projectile du type donné (vitesse et dégâts fournis par ProjectileFactory)
+     * @return indice du projectile, -1 si le type est inconnu
+     */
+    public int spawn(int projectileType, int xCoord, int yCoord) {
+        if (!ProjectileFactory.isKnownType(projectileType)) {
+            Logger.warning("Unknown projectile type: " + projectileType);
+            return -1;
+        }
+        return add(projectileType, xCoord, yCoord,
+                   ProjectileFactory.velocityOf(projectileType), ProjectileFactory.damageOf(projectileType));
+    }
+
+    private int add(int projectileType, int xCoord, int yCoord, int speedY, int projectileDamage) {
+        store.ensureCapacity(count + 1);
+        int i = count++;
+        store.set(i, X, xCoord);
+        store.set(i, Y, yCoord);
+        store.set(i, VELOCITY_Y, speedY);
+        store.set(i, DAMAGE, projectileDamage);
+        store.set(i, TYPE, projectileType);
+        store.set(i, LIVE, 1);
+        return i;
+    }
+
+    /**
+     * Retire les projectiles morts, avance les autres d'un tick et retire ceux
+     * sortis de [minY, maxY]. Un seul parcours, retraits par swap-remove.
+     */
+    public void advance(int minY, int maxY) {
+        int i = 0;
+        while (i < count) {
+            if (store.get(i, LIVE) != 0) {
+                int y = store.get(i, Y) + store.get(i, VELOCITY_Y);
+                store.set(i, Y, y);
+                if (y >= minY && y <= maxY) {
+                    i++;
+                    continue;
+                }
+            }
+            // Le dernier, pas encore traité, prend la place de i et sera examiné ensuite
+            store.copyRecord(--count, i);
+        }
+    }
+
+    /** Marque le projectile comme détruit; il reste à son indice jusqu'au prochain advance() */
+    public void kill(int i) {
+        store.set(i, LIVE, 0);
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    /** Nombre de projectiles, y compris ceux tués depuis le dernier advance() */
+    public int size() {
+        return count;
+    }
+
+    public boolean isLive(int i) {
+        return store.get(i, LIVE) != 0;
+    }
+
+    /** Vrai pour les tirs du joueur (montants) */
+    public boolean isPlayerShot(int i) {
+        return store.get(i, VELOCITY_Y) < 0;
+    }
+
+    public int getX(int i) {
+        return store.get(i, X);
+    }
+
+    public int getY(int i) {
+        return store.get(i, Y);
+    }
+
+    public int getVelocityY(int i) {
+        return store.get(i, VELOCITY_Y);
+    }
+
+    public int getDamage(int i) {
+        return store.get(i, DAMAGE);
+    }
+
+    public int getType(int i) {
+        return store.get(i, TYPE);
+    }
+
+    public EntityStore.Kind getStorageKind() {
+        return store.getKind();
+    }
+
+    /**
+     * Écrit les enregistrements des projectiles d'un bloc (RECORD_STRIDE int chacun)
+     * @return nombre d'octets écrits
+     */
+    public long writeTo(WritableByteChannel channel) throws IOException {
+        return store.writeTo(channel, count);
+    }
+}
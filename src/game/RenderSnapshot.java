@@ -0,0 +1,171 @@
+package game;
+
+/**
+ * Image immuable de l'état du jeu à la fin d'un tick
+ * Publiée par la simulation et lue par le rendu sans verrou:
+ * le renderer ne touche jamais l'arbre GameComponent ni la chaîne de décorateurs.
+ * Les tableaux sont possédés par le snapshot et ne doivent pas être modifiés.
+ *
+ * Chaque entité porte aussi son déplacement pendant le tick (dx/dy), ce qui
+ * permet au rendu d'interpoler entre le tick précédent et celui-ci sans
+ * avoir à apparier les entités de deux snapshots.
+ */
+public final class RenderSnapshot {
+    private final long tick;
+    private final long publishedNanos;
+    private final boolean paused;
+
+    // Aliens actifs (positions monde, déplacement du tick, couleur ARGB)
+    private final int[] alienX;
+    private final int[] alienY;
+    private final int[] alienDx;
+    private final int[] alienDy;
+    private final int[] alienColor;
+
+    // Projectiles actifs
+    private final int[] projectileX;
+    private final int[] projectileY;
+    private final int[] projectileDy;
+
+    // Joueur
+    private final int playerX;
+    private final int playerY;
+    private final int previousPlayerX;
+    private final boolean shield;
+
+    // HUD
+    private final int score;
+    private final int aliensRemaining;
+    private final int nextPowerUpScore;
+    private final String shipStatus;
+    private final int shipSpeed;
+    private final int shipFireRate;
+    private final int shipFirePower;
+
+    public RenderSnapshot(long tick, long publishedNanos, boolean paused,
+                          int[] alienX, int[] alienY, int[] alienDx, int[] alienDy, int[] alienColor,
+                          int[] projectileX, int[] projectileY, int[] projectileDy,
+                          int playerX, int playerY, int previousPlayerX, boolean shield,
+                          int score, int aliensRemaining, int nextPowerUpScore,
+                          String shipStatus, int shipSpeed, int shipFireRate, int shipFirePower) {
+        this.tick = tick;
+        this.publishedNanos = publishedNanos;
+        this.paused = paused;
+        this.alienX = alienX;
+        this.alienY = alienY;
+        this.alienDx = alienDx;
+        this.alienDy = alienDy;
+        this.alienColor = alienColor;
+        this.projectileX = projectileX;
+        this.projectileY = projectileY;
+        this.projectileDy = projectileDy;
+        this.playerX = playerX;
+        this.playerY = playerY;
+        this.previousPlayerX = previousPlayerX;
+        this.shield = shield;
+        this.score = score;
+        this.aliensRemaining = aliensRemaining;
+        this.nextPowerUpScore = nextPowerUpScore;
+        this.shipStatus = shipStatus;
+        this.shipSpeed = shipSpeed;
+        this.shipFireRate = shipFireRate;
+        this.shipFirePower = shipFirePower;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    /** Instant de publication (System.nanoTime), base de l'interpolation */
+    public long getPublishedNanos() {
+        return publishedNanos;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public int getAlienCount() {
+        return alienX.length;
+    }
+
+    public int getAlienX(int i) {
+        return alienX[i];
+    }
+
+    public int getAlienY(int i) {
+        return alienY[i];
+    }
+
+    public int getAlienDx(int i) {
+        return alienDx[i];
+    }
+
+    public int getAlienDy(int i) {
+        return alienDy[i];
+    }
+
+    public int getAlienColor(int i) {
+        return alienColor[i];
+    }
+
+    public int getProjectileCount() {
+        return projectileX.length;
+    }
+
+    public int getProjectileX(int i) {
+        return projectileX[i];
+    }
+
+    public int getProjectileY(int i) {
+        return projectileY[i];
+    }
+
+    public int getProjectileDy(int i) {
+        return projectileDy[i];
+    }
+
+    public int getPlayerX() {
+        return playerX;
+    }
+
+    public int getPlayerY() {
+        return playerY;
+    }
+
+    public int getPreviousPlayerX() {
+        return previousPlayerX;
+    }
+
+    public boolean hasShield() {
+        return shield;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getAliensRemaining() {
+        return aliensRemaining;
+    }
+
+    public int getNextPowerUpScore() {
+        return nextPowerUpScore;
+    }
+
+    public String getShipStatus() {
+        return shipStatus;
+    }
+
+    public int getShipSpeed() {
+        return shipSpeed;
+    }
+
+    public int getShipFireRate() {
+        return shipFireRate;
+    }
+
+    public int getShipFirePower() {
+        return shipFirePower;
+    }
+}
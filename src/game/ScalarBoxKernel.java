@@ -0,0 +1,42 @@
+package game;
+
+/**
+ * Noyau de test de boîtes en Java scalaire (référence et repli)
+ */
+public class ScalarBoxKernel implements BoxTestKernel {
+
+    @Override
+    public int pointInBoxes(int px, int py, int[] minX, int[] minY, int[] maxX, int[] maxY,
+                            int count, int[] hits) {
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            if (px > minX[i] && px < maxX[i] && py > minY[i] && py < maxY[i]) {
+                hits[found++] = i;
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void firstHits(int[] px, int[] py, int pointCount,
+                          int[] minX, int[] minY, int[] maxX, int[] maxY, int boxCount,
+                          int[] firstHit) {
+        for (int p = 0; p < pointCount; p++) {
+            int x = px[p];
+            int y = py[p];
+            int hit = -1;
+            for (int i = 0; i < boxCount; i++) {
+                if (x > minX[i] && x < maxX[i] && y > minY[i] && y < maxY[i]) {
+                    hit = i;
+                    break;
+                }
+            }
+            firstHit[p] = hit;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+}
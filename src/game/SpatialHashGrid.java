@@ -0,0 +1,205 @@
+package game;
+
+import java.util.Arrays;
+
+/**
+ * Broad phase des collisions: grille uniforme hachée
+ * Chaque élément est inscrit dans toutes les cellules couvertes par sa boîte (AABB);
+ * une requête ne visite que les cellules couvertes par la boîte demandée.
+ * Le coût d'une requête dépend donc du nombre de voisins, pas du nombre total d'entités.
+ *
+ * Les cellules sont hachées dans une table de taille fixe (monde non borné);
+ * deux cellules peuvent partager un seau, la phase fine filtre les faux candidats.
+ * Stockage en tableaux primitifs (listes chaînées par indices): aucune allocation
+ * par tick une fois la capacité atteinte.
+ *
+ * Les candidats sont rendus dans l'ordre d'insertion, ce qui garde le résultat
+ * identique à un parcours linéaire (voir DeterminismChecker).
+ *
+ * Une fois remplie, la grille peut être interrogée depuis plusieurs threads
+ * à condition que chacun utilise son propre curseur Query.
+ */
+public class SpatialHashGrid<T> {
+    private static final int EMPTY = -1;
+
+    private final int cellShift;
+
+    // Table des seaux: tête de liste d'entrées par seau
+    private int[] bucketHead;
+    private int bucketMask;
+
+    // Entrées (un élément peut avoir une entrée par cellule couverte)
+    private int[] entryItem;
+    private int[] entryNext;
+    private int entryCount = 0;
+
+    // Éléments inscrits
+    private Object[] items;
+    private int itemCount = 0;
+
+    // Curseur des requêtes faites sans Query explicite
+    private final Query defaultQuery = new Query();
+
+    /**
+     * Curseur de requête: résultat de la dernière requête (indices d'insertion)
+     * et marques de dédoublonnage. Un par thread interrogeant la grille.
+     */
+    public static final class Query {
+        private int[] stamps = new int[0];
+        private int stamp = 0;
+        private int[] candidates = new int[0];
+        private int count = 0;
+
+        private void prepare(int itemCount) {
+            if (stamps.length < itemCount) {
+                int capacity = Math.max(itemCount, stamps.length * 2);
+                stamps = Arrays.copyOf(stamps, capacity);
+                candidates = new int[capacity];
+            }
+            if (++stamp == 0) {
+                Arrays.fill(stamps, 0); // Débordement du compteur: repartir de zéro
+                stamp = 1;
+            }
+            count = 0;
+        }
+
+        public int size() {
+            return count;
+        }
+
+        /** Indice d'insertion du i-ème candidat */
+        public int get(int i) {
+            return candidates[i];
+        }
+    }
+
+    /**
+     * @param cellSize taille d'une cellule, arrondie à la puissance de deux supérieure
+     * @param expectedItems capacité initiale
+     */
+    public SpatialHashGrid(int cellSize, int expectedItems) {
+        this.cellShift = 32 - Integer.numberOfLeadingZeros(Math.max(1, cellSize - 1));
+        int capacity = Math.max(16, expectedItems);
+        this.bucketHead = new int[tableSizeFor(capacity * 2)];
+        this.bucketMask = bucketHead.length - 1;
+        Arrays.fill(bucketHead, EMPTY);
+        this.entryItem = new int[capacity * 2];
+        this.entryNext = new int[capacity * 2];
+        this.items = new Object[capacity];
+    }
+
+    private static int tableSizeFor(int n) {
+        return Integer.highestOneBit(Math.max(16, n - 1)) << 1;
+    }
+
+    /**
+     * Vide la grille (à chaque tick avant de réinscrire les entités)
+     * Agrandit la table si le remplissage précédent l'a saturée.
+     */
+    public void clear() {
+        if (entryCount > bucketHead.length) {
+            bucketHead = new int[tableSizeFor(entryCount * 2)];
+            bucketMask = bucketHead.length - 1;
+        }
+        Arrays.fill(bucketHead, EMPTY);
+        Arrays.fill(items, 0, itemCount, null);
+        entryCount = 0;
+        itemCount = 0;
+        defaultQuery.count = 0;
+    }
+
+    /**
+     * Inscrit un élément dans toutes les cellules couvertes par sa boîte (bornes incluses)
+     */
+    public void insert(T item, int minX, int minY, int maxX, int maxY) {
+        if (itemCount == items.length) {
+            items = Arrays.copyOf(items, items.length * 2);
+        }
+        int index = itemCount++;
+        items[index] = item;
+
+        int cx0 = minX >> cellShift, cx1 = maxX >> cellShift;
+        int cy0 = minY >> cellShift, cy1 = maxY >> cellShift;
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                addEntry(bucket(cx, cy), index);
+            }
+        }
+    }
+
+    private void addEntry(int bucket, int index) {
+        if (entryCount == entryItem.length) {
+            entryItem = Arrays.copyOf(entryItem, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        entryItem[entryCount] = index;
+        entryNext[entryCount] = bucketHead[bucket];
+        bucketHead[bucket] = entryCount;
+        entryCount++;
+    }
+
+    private int bucket(int cx, int cy) {
+        int h = cx * 0x9E3779B1 + cy * 0x85EBCA77;
+        return (h ^ (h >>> 16)) & bucketMask;
+    }
+
+    /**
+     * Collecte les éléments dont une cellule recoupe la boîte demandée
+     * Les candidats doivent encore passer le test exact (phase fine).
+     * @return nombre de candidats, lus ensuite avec getCandidate(i)
+     */
+    public int query(int minX, int minY, int maxX, int maxY) {
+        return query(defaultQuery, minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Même requête avec un curseur fourni par l'appelant (requêtes concurrentes)
+     * @return nombre de candidats, lus ensuite avec query.get(i) et getItem()
+     */
+    public int query(Query query, int minX, int minY, int maxX, int maxY) {
+        query.prepare(itemCount);
+        int[] stamps = query.stamps;
+        int stamp = query.stamp;
+        int[] candidates = query.candidates;
+        int candidateCount = 0;
+
+        int cx0 = minX >> cellShift, cx1 = maxX >> cellShift;
+        int cy0 = minY >> cellShift, cy1 = maxY >> cellShift;
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                for (int e = bucketHead[bucket(cx, cy)]; e != EMPTY; e = entryNext[e]) {
+                    int index = entryItem[e];
+                    if (stamps[index] != stamp) {
+                        stamps[index] = stamp;
+                        candidates[candidateCount++] = index;
+                    }
+                }
+            }
+        }
+
+        // Ordre d'insertion: mêmes résultats qu'un parcours complet
+        if (candidateCount > 1) {
+            Arrays.sort(candidates, 0, candidateCount);
+        }
+        query.count = candidateCount;
+        return candidateCount;
+    }
+
+    public T getCandidate(int i) {
+        return getItem(defaultQuery.candidates[i]);
+    }
+
+    /** Indice d'insertion du i-ème candidat (pour des données parallèles chez l'appelant) */
+    public int getCandidateIndex(int i) {
+        return defaultQuery.candidates[i];
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getItem(int index) {
+        return (T) items[index];
+    }
+
+    public int size() {
+        return itemCount;
+    }
+}
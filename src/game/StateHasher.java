@@ -0,0 +1,50 @@
+package game;
+
+/**
+ * Hachage rapide de l'état de simulation, champ par champ
+ * Mélange 64 bits de type FNV-1a sur des entiers: assez bon pour détecter
+ * une divergence, assez peu coûteux pour être calculé à chaque tick.
+ */
+public final class StateHasher {
+
+    /** Champs hachés séparément, pour localiser une divergence */
+    public enum Field {
+        CLOCK, ALIENS, PROJECTILES, PLAYER, SCORE, SHIP
+    }
+
+    public static final int FIELD_COUNT = Field.values().length;
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+
+    public StateHasher reset() {
+        hash = OFFSET_BASIS;
+        return this;
+    }
+
+    public StateHasher add(long value) {
+        hash = (hash ^ value) * PRIME;
+        return this;
+    }
+
+    public StateHasher add(boolean value) {
+        return add(value ? 1 : 0);
+    }
+
+    public long get() {
+        return hash;
+    }
+
+    /**
+     * Combine le hash cumulé du tick précédent avec les hash de champs du tick courant
+     */
+    public static long roll(long previous, long[] fieldHashes) {
+        long hash = previous;
+        for (long fieldHash : fieldHashes) {
+            hash = (hash ^ fieldHash) * PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,119 @@
+package game;
+
+import java.util.Arrays;
+
+/**
+ * Enregistrement tick par tick d'une partie: entrées appliquées,
+ * hash de chaque champ d'état et hash cumulé.
+ * Deux traces de la même graine doivent être identiques; sinon
+ * firstDivergence() indique le premier tick et le premier champ fautifs.
+ */
+public class StateTrace {
+    private final StateHasher hasher = new StateHasher();
+    private final long[] fieldScratch = new long[StateHasher.FIELD_COUNT];
+
+    private int[] inputs = new int[1024];
+    private long[] fieldHashes = new long[1024 * StateHasher.FIELD_COUNT];
+    private long[] rollingHashes = new long[1024];
+    private int length = 0;
+    private long rollingHash = 0;
+
+    /**
+     * Enregistre un tick: à appeler juste après simulation.step(input)
+     */
+    public void record(InputState input, GameSimulation simulation) {
+        ensureCapacity(length + 1);
+        simulation.hashState(hasher, fieldScratch);
+        rollingHash = StateHasher.roll(rollingHash, fieldScratch);
+
+        inputs[length] = input.toBits();
+        System.arraycopy(fieldScratch, 0, fieldHashes,
+                         length * StateHasher.FIELD_COUNT, StateHasher.FIELD_COUNT);
+        rollingHashes[length] = rollingHash;
+        length++;
+    }
+
+    private void ensureCapacity(int ticks) {
+        if (ticks <= inputs.length) return;
+        int capacity = Math.max(ticks, inputs.length * 2);
+        inputs = Arrays.copyOf(inputs, capacity);
+        fieldHashes = Arrays.copyOf(fieldHashes, capacity * StateHasher.FIELD_COUNT);
+        rollingHashes = Arrays.copyOf(rollingHashes, capacity);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /** Entrées du tick, au format InputState.toBits() */
+    public int getInput(int tick) {
+        return inputs[tick];
+    }
+
+    public long getFieldHash(int tick, StateHasher.Field field) {
+        return fieldHashes[tick * StateHasher.FIELD_COUNT + field.ordinal()];
+    }
+
+    /** Hash cumulé de tous les ticks jusqu'à celui-ci inclus */
+    public long getRollingHash(int tick) {
+        return rollingHashes[tick];
+    }
+
+    public long getFinalHash() {
+        return rollingHash;
+    }
+
+    /**
+     * Premier écart entre deux traces, ou null si elles sont identiques
+     */
+    public Divergence firstDivergence(StateTrace other) {
+        int common = Math.min(length, other.length);
+        for (int tick = 0; tick < common; tick++) {
+            if (rollingHashes[tick] == other.rollingHashes[tick]) {
+                continue;
+            }
+            for (StateHasher.Field field : StateHasher.Field.values()) {
+                if (getFieldHash(tick, field) != other.getFieldHash(tick, field)) {
+                    return new Divergence(tick, field.name(),
+                                          inputs[tick] != other.inputs[tick]);
+                }
+            }
+        }
+        if (length != other.length) {
+            return new Divergence(common, "LENGTH", false);
+        }
+        return null;
+    }
+
+    /** Premier tick divergent et champ concerné */
+    public static final class Divergence {
+        private final int tick;
+        private final String field;
+        private final boolean inputDiffers;
+
+        Divergence(int tick, String field, boolean inputDiffers) {
+            this.tick = tick;
+            this.field = field;
+            this.inputDiffers = inputDiffers;
+        }
+
+        public int getTick() {
+            return tick;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        /** Vrai si les entrées différaient déjà à ce tick (écart d'entrée, pas de simulation) */
+        public boolean isInputDifference() {
+            return inputDiffers;
+        }
+
+        @Override
+        public String toString() {
+            return "tick " + tick + ", field " + field +
+                   (inputDiffers ? " (inputs differ)" : "");
+        }
+    }
+}
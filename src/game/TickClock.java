@@ -0,0 +1,33 @@
+package game;
+
+/**
+ * Horloge déterministe avancée d'un pas par tick de simulation
+ * Le temps ne s'écoule que quand la simulation avance: la pause fige
+ * les power-ups, et une simulation peut tourner plus vite que le temps réel.
+ */
+public class TickClock implements GameClock {
+    private final int ticksPerSecond;
+    private long tick = 0;
+    private long millis = 0;
+
+    public TickClock(int ticksPerSecond) {
+        this.ticksPerSecond = ticksPerSecond;
+    }
+
+    /**
+     * Avance d'un tick (appelé une fois par pas de simulation)
+     */
+    public void advance() {
+        tick++;
+        millis = tick * 1000 / ticksPerSecond;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return millis;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+}
@@ -1,21 +1,85 @@
 package patterns.composite;
 
 import entities.Alien;
+import entities.CollisionMask;
+import utils.EntityStore;
 import utils.Logger;
 import java.awt.Graphics;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.BitSet;
 
 /**
  * Formation d'aliens utilisant le Composite Pattern
  * Gère le mouvement coordonné de plusieurs aliens
+ *
+ * La position (x, y) du groupe est le décalage monde de la formation;
+ * les aliens stockent une position locale. Déplacer la formation ne touche
+ * donc qu'au décalage, quel que soit le nombre d'aliens.
+ *
+ * Position, couleur et état vivant des aliens sont rangés dans des enregistrements
+ * primitifs (EntityStore, sur le tas ou hors tas) et un BitSet: bords, boîte et
+ * collisions parcourent cette mémoire contiguë. Les AlienObject enfants restent
+ * des vues pour l'API Composite.
  */
 public class AlienFormation extends GameGroup {
     private int direction = 1; // 1 = droite, -1 = gauche
     private int speed = 1;
     private int moveDownAmount = 10;
     private boolean shouldMoveDown = false;
+    // Déplacement appliqué au dernier update (interpolation du rendu)
+    private int lastMoveX = 0;
+    private int lastMoveY = 0;
+
+    // Champs d'un enregistrement d'alien (EntityStore)
+    private static final int LOCAL_X = 0;
+    private static final int LOCAL_Y = 1;
+    private static final int RGB = 2;
+    private static final int ALIVE = 3; // Copie du BitSet, pour les écritures en bloc
+    public static final int RECORD_STRIDE = 4;
+
+    // Stockage des aliens en enregistrements primitifs (tas ou hors tas): un emplacement
+    // par alien attaché, dans l'ordre d'ajout. Les passes de la formation parcourent ces
+    // enregistrements et le BitSet des vivants au lieu des AlienObject, qui n'en sont que des vues.
+    // Les emplacements ne sont pas réutilisés: l'ordre des emplacements reste celui des enfants.
+    private final EntityStore store;
+    private int slotCount = 0;
+    private AlienObject[] views = new AlienObject[16];
+    private final BitSet alive = new BitSet();
+    private int aliveCount = 0;
+    private int otherChildren = 0; // Enfants qui ne sont pas des aliens
+    private boolean hasDeadChildren = false;
+
+    // Disposition en grille (createRectangularFormation): cases fixes rangée par rangée,
+    // le centre de la case (0, 0) est au décalage de la formation. null hors grille.
+    private int[] gridSlots;
+    private int gridRows;
+    private int gridCols;
+    private int gridSpacing;
+
+    // Occupation des colonnes, tenue à jour à chaque changement d'état d'un alien (setAlive)
+    private int[] columnLiveCount;
+    private int[] columnBottomRow; // -1 = colonne vide
+    private int leftmostColumn;
+    private int rightmostColumn;
+
+    // Boîte monde = boîte locale en cache (GameGroup) décalée de (x, y)
+    private final Bounds worldBounds = new Bounds();
+    private final Bounds childBounds = new Bounds();
+    private final Bounds alienBounds = new Bounds(); // Rendue par getAlienBounds
 
     public AlienFormation(String name) {
+        this(name, EntityStore.Kind.HEAP, 16);
+    }
+
+    /**
+     * @param storage tas, ou hors tas pour les très grandes formations
+     * @param capacity nombre d'aliens prévu
+     */
+    public AlienFormation(String name, EntityStore.Kind storage, int capacity) {
         super(name);
+        this.store = storage.create(RECORD_STRIDE, capacity);
         Logger.log("COMPOSITE", "AlienFormation created: " + name);
     }
 
@@ -27,6 +91,8 @@ public class AlienFormation extends GameGroup {
         checkBoundaries();
 
         // Déplacer toute la formation
+        lastMoveX = 0;
+        lastMoveY = 0;
         if (shouldMoveDown) {
             moveDown();
             shouldMoveDown = false;
@@ -36,18 +102,42 @@ public class AlienFormation extends GameGroup {
         }
 
         // Mettre à jour les enfants individuels
-        super.update();
+        if (otherChildren > 0) {
+            super.update();
+        } else if (hasDeadChildren) {
+            // Les vues d'aliens n'ont rien à mettre à jour: seulement retirer les morts
+            children.removeIf(component -> !component.isActive());
+            hasDeadChildren = false;
+        }
     }
 
     private void checkBoundaries() {
         int leftmost = Integer.MAX_VALUE;
         int rightmost = Integer.MIN_VALUE;
 
-        for (GameComponent component : children) {
-            if (component.isActive()) {
-                int x = component.getX();
-                leftmost = Math.min(leftmost, x);
-                rightmost = Math.max(rightmost, x);
+        if (gridSlots != null) {
+            // Colonnes extrêmes connues: pas de parcours des aliens
+            if (leftmostColumn <= rightmostColumn) {
+                leftmost = x + leftmostColumn * gridSpacing;
+                rightmost = x + rightmostColumn * gridSpacing;
+            }
+        } else {
+            for (int s = alive.nextSetBit(0); s >= 0; s = alive.nextSetBit(s + 1)) {
+                int localX = store.get(s, LOCAL_X);
+                leftmost = Math.min(leftmost, localX);
+                rightmost = Math.max(rightmost, localX);
+            }
+            if (aliveCount > 0) {
+                leftmost += x;
+                rightmost += x;
+            }
+            if (otherChildren > 0) {
+                for (GameComponent component : children) {
+                    if (!(component instanceof AlienObject) && component.isActive()) {
+                        leftmost = Math.min(leftmost, component.getX());
+                        rightmost = Math.max(rightmost, component.getX());
+                    }
+                }
             }
         }
 
@@ -59,22 +149,423 @@ public class AlienFormation extends GameGroup {
     }
 
     private void moveHorizontally() {
-        for (GameComponent component : children) {
-            if (component.isActive() && component instanceof AlienObject) {
-                AlienObject alien = (AlienObject) component;
-                alien.moveBy(direction * speed, 0);
-            }
-        }
+        x += direction * speed;
+        lastMoveX = direction * speed;
+        offsetChanged();
     }
 
     private void moveDown() {
         Logger.log("INFO", "AlienFormation moving down");
+        y += moveDownAmount;
+        lastMoveY = moveDownAmount;
+        offsetChanged();
+    }
+
+    /**
+     * La boîte locale reste valide; seule celle du parent (en monde) est périmée
+     */
+    private void offsetChanged() {
+        if (parent != null) {
+            parent.invalidateBounds();
+        }
+    }
+
+    @Override
+    public Bounds getBounds() {
+        worldBounds.setTranslated(super.getBounds(), x, y);
+        return worldBounds;
+    }
+
+    /**
+     * Boîte des aliens actifs en coordonnées locales: ne dépend pas du décalage,
+     * n'est donc recalculée qu'à la mort ou au déplacement individuel d'un alien
+     */
+    @Override
+    protected void computeBounds(Bounds out) {
+        out.clear();
+        if (aliveCount > 0) {
+            int minX = Integer.MAX_VALUE;
+            int minY = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE;
+            int maxY = Integer.MIN_VALUE;
+            for (int s = alive.nextSetBit(0); s >= 0; s = alive.nextSetBit(s + 1)) {
+                int localX = store.get(s, LOCAL_X);
+                int localY = store.get(s, LOCAL_Y);
+                minX = Math.min(minX, localX);
+                minY = Math.min(minY, localY);
+                maxX = Math.max(maxX, localX);
+                maxY = Math.max(maxY, localY);
+            }
+            out.set(minX - AlienObject.WIDTH/2, minY - AlienObject.HEIGHT/2,
+                    maxX + AlienObject.WIDTH/2, maxY + AlienObject.HEIGHT/2);
+        }
+        if (otherChildren > 0) {
+            for (GameComponent component : children) {
+                if (!(component instanceof AlienObject) && component.isActive()) {
+                    childBounds.setTranslated(component.getBounds(), -x, -y);
+                    out.union(childBounds);
+                }
+            }
+        }
+    }
+
+    public int getLastMoveX() {
+        return lastMoveX;
+    }
+
+    public int getLastMoveY() {
+        return lastMoveY;
+    }
+
+    /**
+     * Ajoute un composant; un alien passe en coordonnées locales à la formation
+     */
+    @Override
+    public void add(GameComponent component) {
+        if (component == null || children.contains(component)) return;
+        if (component instanceof AlienObject) {
+            ((AlienObject) component).attachTo(this);
+        } else {
+            otherChildren++;
+        }
+        super.add(component);
+        gridSlots = null; // La disposition n'est plus garantie
+    }
+
+    @Override
+    public void remove(GameComponent component) {
+        if (!children.contains(component)) return;
+        if (component instanceof AlienObject) {
+            ((AlienObject) component).detach();
+        } else {
+            otherChildren--;
+        }
+        super.remove(component);
+        gridSlots = null;
+    }
+
+    /**
+     * Compte les composants actifs: les aliens vivants sont comptés sans parcours
+     */
+    @Override
+    public int countActiveComponents() {
+        if (otherChildren == 0) {
+            return aliveCount;
+        }
+        int count = aliveCount;
         for (GameComponent component : children) {
-            if (component.isActive() && component instanceof AlienObject) {
-                AlienObject alien = (AlienObject) component;
-                alien.moveBy(0, moveDownAmount);
+            if (!(component instanceof AlienObject) && component.isActive()) {
+                count++;
+                if (component.isComposite()) {
+                    count += ((GameGroup) component).countActiveComponents();
+                }
             }
         }
+        return count;
+    }
+
+    // --- Emplacements (appelés par les vues AlienObject) ---
+
+    int allocateSlot(AlienObject view, int localX, int localY, int rgb, boolean isAlive) {
+        if (slotCount == views.length) {
+            views = Arrays.copyOf(views, slotCount * 2);
+        }
+        int slot = slotCount++;
+        store.ensureCapacity(slotCount);
+        store.set(slot, LOCAL_X, localX);
+        store.set(slot, LOCAL_Y, localY);
+        store.set(slot, RGB, rgb);
+        store.set(slot, ALIVE, isAlive ? 1 : 0);
+        views[slot] = view;
+        if (isAlive) {
+            alive.set(slot);
+            aliveCount++;
+        } else {
+            hasDeadChildren = true;
+        }
+        return slot;
+    }
+
+    void releaseSlot(int slot) {
+        setAlive(slot, false);
+        views[slot] = null;
+    }
+
+    void setAlive(int slot, boolean isAlive) {
+        if (alive.get(slot) == isAlive) return;
+        alive.set(slot, isAlive);
+        store.set(slot, ALIVE, isAlive ? 1 : 0);
+        aliveCount += isAlive ? 1 : -1;
+        hasDeadChildren |= !isAlive;
+        if (gridSlots != null && views[slot] != null) {
+            // Toute (dés)activation, par hit() comme par setActive(), tient la grille à jour
+            AlienObject alien = views[slot];
+            if (isAlive) {
+                onAlienRevived(alien.getRow(), alien.getCol());
+            } else {
+                onAlienKilled(alien.getRow(), alien.getCol());
+            }
+        }
+        invalidateBounds();
+    }
+
+    /**
+     * Déplacement individuel: l'alien quitte sa case, la formation n'est plus une grille
+     * (hitTest, sweepTest et les bords repassent par le parcours des emplacements)
+     */
+    void moveAlien(int slot, int dx, int dy) {
+        store.set(slot, LOCAL_X, store.get(slot, LOCAL_X) + dx);
+        store.set(slot, LOCAL_Y, store.get(slot, LOCAL_Y) + dy);
+        if (dx != 0 || dy != 0) {
+            gridSlots = null;
+        }
+        invalidateBounds();
+    }
+
+    // --- Accès en lecture aux tableaux (parcours sans vues) ---
+
+    /** Nombre d'emplacements alloués (vivants, morts ou libérés) */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    /** Premier emplacement vivant à partir de from, -1 s'il n'y en a plus */
+    public int nextAliveSlot(int from) {
+        return alive.nextSetBit(from);
+    }
+
+    public boolean isAlive(int slot) {
+        return alive.get(slot);
+    }
+
+    public int getAliveCount() {
+        return aliveCount;
+    }
+
+    public EntityStore.Kind getStorageKind() {
+        return store.getKind();
+    }
+
+    /**
+     * Écrit les enregistrements des emplacements d'un bloc (RECORD_STRIDE int chacun:
+     * x et y locaux, couleur, vivant), sans le décalage de la formation
+     * @return nombre d'octets écrits
+     */
+    public long writeRecords(WritableByteChannel channel) throws IOException {
+        return store.writeTo(channel, slotCount);
+    }
+
+    /** Vrai si la formation contient aussi des composants qui ne sont pas des aliens */
+    public boolean hasNonAlienChildren() {
+        return otherChildren > 0;
+    }
+
+    /** Position monde de l'alien de l'emplacement */
+    public int getAlienX(int slot) {
+        return x + store.get(slot, LOCAL_X);
+    }
+
+    public int getAlienY(int slot) {
+        return y + store.get(slot, LOCAL_Y);
+    }
+
+    /**
+     * Boîte monde de l'alien de cet emplacement, calculée depuis les tableaux.
+     * Instance partagée par tous les emplacements: à lire immédiatement.
+     */
+    Bounds getAlienBounds(int slot) {
+        int ax = getAlienX(slot);
+        int ay = getAlienY(slot);
+        alienBounds.set(ax - AlienObject.WIDTH/2, ay - AlienObject.HEIGHT/2,
+                        ax + AlienObject.WIDTH/2, ay + AlienObject.HEIGHT/2);
+        return alienBounds;
+    }
+
+    /** Couleur ARGB de l'alien de l'emplacement */
+    public int getAlienRgb(int slot) {
+        return store.get(slot, RGB);
+    }
+
+    /** Vue composite de l'emplacement, null s'il a été libéré */
+    public AlienObject getAlien(int slot) {
+        return views[slot];
+    }
+
+    /**
+     * Vrai si la formation est une grille régulière dont les cases ne se chevauchent pas:
+     * un point ne peut alors toucher que l'alien de la case la plus proche
+     */
+    public boolean isGridLayout() {
+        return gridSlots != null;
+    }
+
+    /**
+     * Alien actif touché au point (x, y), ou null
+     * Grille: calcul direct de la case (rangée, colonne), un seul alien testé.
+     * Autre formation: parcours des emplacements vivants.
+     */
+    public AlienObject hitTest(int x, int y) {
+        if (gridSlots == null) {
+            return scanHitTest(x, y);
+        }
+
+        // Case dont le centre est le plus proche du point
+        int col = Math.floorDiv(x - this.x + gridSpacing / 2, gridSpacing);
+        int row = Math.floorDiv(y - this.y + gridSpacing / 2, gridSpacing);
+        if (col < 0 || col >= gridCols || row < 0 || row >= gridRows) {
+            return null;
+        }
+
+        int slot = gridSlots[row * gridCols + col];
+        return alive.get(slot) && AlienObject.contains(getAlienX(slot), getAlienY(slot), x, y)
+            ? views[slot] : null;
+    }
+
+    /**
+     * Un alien de la grille vient de mourir: met à jour l'occupation de la colonne,
+     * la rangée la plus basse encore vivante et les colonnes extrêmes
+     */
+    private void onAlienKilled(int row, int col) {
+        columnLiveCount[col]--;
+        if (columnBottomRow[col] == row) {
+            int r = row - 1;
+            while (r >= 0 && !alive.get(gridSlots[r * gridCols + col])) {
+                r--;
+            }
+            columnBottomRow[col] = r;
+        }
+
+        while (leftmostColumn <= rightmostColumn && columnLiveCount[leftmostColumn] == 0) {
+            leftmostColumn++;
+        }
+        while (rightmostColumn >= leftmostColumn && columnLiveCount[rightmostColumn] == 0) {
+            rightmostColumn--;
+        }
+    }
+
+    /**
+     * Un alien de la grille est réactivé (setActive(true)): inverse de onAlienKilled
+     */
+    private void onAlienRevived(int row, int col) {
+        columnLiveCount[col]++;
+        columnBottomRow[col] = Math.max(columnBottomRow[col], row);
+        if (leftmostColumn > rightmostColumn) {
+            leftmostColumn = col;
+            rightmostColumn = col;
+        } else {
+            leftmostColumn = Math.min(leftmostColumn, col);
+            rightmostColumn = Math.max(rightmostColumn, col);
+        }
+    }
+
+    /**
+     * Alien vivant le plus bas de la colonne (tireur de bombes), ou null.
+     * Toujours null si la formation n'est pas une grille.
+     */
+    public AlienObject getBottomAlien(int col) {
+        if (gridSlots == null || col < 0 || col >= gridCols || columnBottomRow[col] < 0) {
+            return null;
+        }
+        return views[gridSlots[columnBottomRow[col] * gridCols + col]];
+    }
+
+    public int getColumnLiveCount(int col) {
+        return gridSlots == null ? 0 : columnLiveCount[col];
+    }
+
+    public int getGridColumns() {
+        return gridCols;
+    }
+
+    /** Première colonne occupée, -1 si la formation est vide ou n'est pas une grille */
+    public int getLeftmostColumn() {
+        return gridSlots == null || leftmostColumn > rightmostColumn ? -1 : leftmostColumn;
+    }
+
+    /** Dernière colonne occupée, -1 si la formation est vide ou n'est pas une grille */
+    public int getRightmostColumn() {
+        return gridSlots == null || leftmostColumn > rightmostColumn ? -1 : rightmostColumn;
+    }
+
+    /** Bord gauche de la grille (cases entières), valide si isGridLayout() */
+    public int getGridLeft() {
+        return x - gridSpacing / 2;
+    }
+
+    public int getGridTop() {
+        return y - gridSpacing / 2;
+    }
+
+    public int getGridRight() {
+        return x + (gridCols - 1) * gridSpacing + gridSpacing / 2;
+    }
+
+    public int getGridBottom() {
+        return y + (gridRows - 1) * gridSpacing + gridSpacing / 2;
+    }
+
+    /**
+     * Premier alien actif touché par un tir montant de masque shot, centré en x,
+     * dont le centre passe de yBottom à yTop (voir AlienObject.sweepEntry), ou null.
+     * Grille: seules les cases que la boîte balayée du tir recoupe sont examinées.
+     * Autre formation: parcours complet.
+     */
+    public AlienObject sweepTest(CollisionMask shot, int x, int yTop, int yBottom) {
+        if (gridSlots == null) {
+            return scanSweepTest(shot, x, yTop, yBottom);
+        }
+
+        // Cases recoupées par la boîte balayée (les aliens tiennent dans leur case)
+        int shotLeft = x - shot.getWidth() / 2;
+        int shotTop = yTop - shot.getHeight() / 2;
+        int shotBottom = yBottom - shot.getHeight() / 2 + shot.getHeight() - 1;
+        int firstCol = Math.max(0, cellOf(shotLeft - this.x));
+        int lastCol = Math.min(gridCols - 1, cellOf(shotLeft + shot.getWidth() - 1 - this.x));
+        int lowestRow = Math.min(gridRows - 1, cellOf(shotBottom - this.y));
+        int highestRow = Math.max(0, cellOf(shotTop - this.y));
+
+        int earliest = -1;
+        int earliestEntry = AlienObject.NO_HIT;
+        for (int row = lowestRow; row >= highestRow; row--) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                int slot = gridSlots[row * gridCols + col];
+                if (!alive.get(slot)) continue;
+                int entry = AlienObject.sweepEntry(getAlienX(slot), getAlienY(slot),
+                                                   shot, x, yTop, yBottom);
+                if (entry > earliestEntry) {
+                    earliest = slot;
+                    earliestEntry = entry;
+                }
+            }
+        }
+        return earliest < 0 ? null : views[earliest];
+    }
+
+    /** Indice de la case (colonne ou rangée) contenant la coordonnée relative à l'origine de la grille */
+    private int cellOf(int offset) {
+        return Math.floorDiv(offset + gridSpacing / 2, gridSpacing);
+    }
+
+    private AlienObject scanSweepTest(CollisionMask shot, int x, int yTop, int yBottom) {
+        int earliest = -1;
+        int earliestEntry = AlienObject.NO_HIT;
+        for (int s = alive.nextSetBit(0); s >= 0; s = alive.nextSetBit(s + 1)) {
+            int entry = AlienObject.sweepEntry(getAlienX(s), getAlienY(s), shot, x, yTop, yBottom);
+            if (entry > earliestEntry) {
+                earliest = s;
+                earliestEntry = entry;
+            }
+        }
+        return earliest < 0 ? null : views[earliest];
+    }
+
+    private AlienObject scanHitTest(int x, int y) {
+        for (int s = alive.nextSetBit(0); s >= 0; s = alive.nextSetBit(s + 1)) {
+            if (AlienObject.contains(getAlienX(s), getAlienY(s), x, y)) {
+                return views[s];
+            }
+        }
+        return null;
     }
 
     public void setSpeed(int speed) {
@@ -87,17 +578,50 @@ public class AlienFormation extends GameGroup {
      */
     public static AlienFormation createRectangularFormation(
             String name, int rows, int cols, int startX, int startY, int spacing) {
+        return createRectangularFormation(name, rows, cols, startX, startY, spacing,
+                                          EntityStore.Kind.HEAP);
+    }
+
+    /**
+     * Crée une formation rectangulaire d'aliens dans le stockage donné
+     */
+    public static AlienFormation createRectangularFormation(
+            String name, int rows, int cols, int startX, int startY, int spacing,
+            EntityStore.Kind storage) {
         
-        AlienFormation formation = new AlienFormation(name);
-        
+        AlienFormation formation = new AlienFormation(name, storage, rows * cols);
+        formation.x = startX;
+        formation.y = startY;
+        int[] cells = new int[rows * cols];
+
+        // Ajout en bloc: pas de recherche de doublon ni de log par alien
         for (int row = 0; row < rows; row++) {
             for (int col = 0; col < cols; col++) {
                 int x = startX + (col * spacing);
                 int y = startY + (row * spacing);
                 AlienObject alien = new AlienObject(x, y);
-                formation.add(alien);
+                alien.attachTo(formation);
+                alien.setParent(formation);
+                alien.setGridCell(row, col);
+                formation.children.add(alien);
+                cells[row * cols + col] = alien.getSlot();
             }
         }
+        formation.invalidateBounds();
+
+        // Cases disjointes seulement si l'espacement couvre la taille d'un alien
+        if (spacing >= AlienObject.WIDTH && spacing >= AlienObject.HEIGHT) {
+            formation.gridSlots = cells;
+            formation.gridRows = rows;
+            formation.gridCols = cols;
+            formation.gridSpacing = spacing;
+            formation.columnLiveCount = new int[cols];
+            formation.columnBottomRow = new int[cols];
+            Arrays.fill(formation.columnLiveCount, rows);
+            Arrays.fill(formation.columnBottomRow, rows - 1);
+            formation.leftmostColumn = 0;
+            formation.rightmostColumn = cols - 1;
+        }
         
         Logger.log("COMPOSITE", "Rectangular formation created: " + 
                   rows + "x" + cols + " = " + (rows * cols) + " aliens");
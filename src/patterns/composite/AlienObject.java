@@ -2,15 +2,33 @@ package patterns.composite;
 
 import java.awt.Color;
 import java.awt.Graphics;
+import entities.CollisionMask;
+import utils.Constants;
 
 /**
  * Alien individuel comme objet feuille
  * Wrapper simple pour intégrer Alien dans le Composite Pattern
+ *
+ * Dans une AlienFormation, l'alien n'est qu'une vue sur son emplacement:
+ * position locale, couleur et état vivant sont rangés dans les tableaux de la
+ * formation (voir AlienFormation). getX()/getY() rendent toujours la position monde.
  */
 public class AlienObject extends GameObject {
+    /** Valeur de sweepEntry quand le tir ne touche pas */
+    public static final int NO_HIT = Integer.MIN_VALUE;
+
+    public static final int WIDTH = Constants.NORMAL_ALIEN_WIDTH;
+    public static final int HEIGHT = Constants.NORMAL_ALIEN_HEIGHT;
+    private static final CollisionMask MASK =
+        CollisionMask.forSprite(Constants.NORMAL_ALIEN_IMAGE, WIDTH, HEIGHT);
+
     private Color color;
-    private int width = 30;
-    private int height = 20;
+
+    // Formation porteuse (null = état propre, coordonnées monde), emplacement et case
+    private AlienFormation formation;
+    private int slot;
+    private int row;
+    private int col;
 
     public AlienObject(int x, int y) {
         super(x, y);
@@ -29,10 +47,12 @@ public class AlienObject extends GameObject {
 
     @Override
     public void render(Graphics g) {
-        if (!active) return;
-        
+        if (!isActive()) return;
+        int x = getX();
+        int y = getY();
+
         g.setColor(color);
-        g.fillRect(x - width/2, y - height/2, width, height);
+        g.fillRect(x - WIDTH/2, y - HEIGHT/2, WIDTH, HEIGHT);
         
         // Yeux
         g.setColor(Color.WHITE);
@@ -41,11 +61,177 @@ public class AlienObject extends GameObject {
     }
 
     public void moveBy(int dx, int dy) {
+        if (formation != null) {
+            formation.moveAlien(slot, dx, dy);
+            return;
+        }
         this.x += dx;
         this.y += dy;
+        invalidateParentBounds();
+    }
+
+    /**
+     * Vrai si le point est strictement à l'intérieur de la boîte de l'alien
+     */
+    public boolean contains(int px, int py) {
+        return contains(getX(), getY(), px, py);
+    }
+
+    /**
+     * Vrai si la boîte balayée par un tir de masque shot, centré en px, dont le centre
+     * passe de yBottom à yTop pendant le tick, recoupe la boîte de l'alien
+     */
+    public boolean overlapsSweep(CollisionMask shot, int px, int yTop, int yBottom) {
+        return overlapsSweep(getX(), getY(), shot, px, yTop, yBottom);
+    }
+
+    /**
+     * Point d'entrée précis de ce tir montant: ordonnée du centre du tir à la première
+     * position où son masque touche celui de l'alien (la plus grande = la plus tôt), ou NO_HIT.
+     * La boîte balayée est testée d'abord; ensuite un overlaps par position où les boîtes se recoupent.
+     */
+    public int sweepEntry(CollisionMask shot, int px, int yTop, int yBottom) {
+        return sweepEntry(getX(), getY(), shot, px, yTop, yBottom);
+    }
+
+    // Mêmes tests pour un alien centré en (ax, ay): la formation les applique
+    // directement à ses tableaux, sans passer par les vues
+
+    static boolean contains(int ax, int ay, int px, int py) {
+        return px > ax - WIDTH/2 && px < ax + WIDTH/2 &&
+               py > ay - HEIGHT/2 && py < ay + HEIGHT/2;
+    }
+
+    static boolean overlapsSweep(int ax, int ay, CollisionMask shot, int px, int yTop, int yBottom) {
+        int shotLeft = px - shot.getWidth() / 2;
+        int shotTop = yTop - shot.getHeight() / 2;
+        int shotBottom = yBottom - shot.getHeight() / 2 + shot.getHeight();
+        return shotLeft < ax - WIDTH/2 + WIDTH && shotLeft + shot.getWidth() > ax - WIDTH/2 &&
+               shotTop < ay - HEIGHT/2 + HEIGHT && shotBottom > ay - HEIGHT/2;
+    }
+
+    static int sweepEntry(int ax, int ay, CollisionMask shot, int px, int yTop, int yBottom) {
+        if (!overlapsSweep(ax, ay, shot, px, yTop, yBottom)) {
+            return NO_HIT;
+        }
+        int left = ax - WIDTH/2;
+        int top = ay - HEIGHT/2;
+        int dx = px - shot.getWidth() / 2 - left;
+        int halfHeight = shot.getHeight() / 2;
+
+        // Positions du centre où les boîtes se recoupent verticalement, de la plus ancienne à la plus récente
+        int first = Math.min(yBottom, top + HEIGHT - 1 + halfHeight);
+        int last = Math.max(yTop, top - shot.getHeight() + 1 + halfHeight);
+        for (int y = first; y >= last; y--) {
+            if (MASK.overlaps(shot, dx, y - halfHeight - top)) {
+                return y;
+            }
+        }
+        return NO_HIT;
+    }
+
+    public CollisionMask getCollisionMask() {
+        return MASK;
+    }
+
+    /** Formation porteuse, null si l'alien n'appartient à aucune formation */
+    public AlienFormation getFormation() {
+        return formation;
+    }
+
+    @Override
+    public int getWidth() {
+        return WIDTH;
+    }
+
+    @Override
+    public int getHeight() {
+        return HEIGHT;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    /**
+     * Confie position et état à un emplacement de la formation (position monde conservée)
+     */
+    void attachTo(AlienFormation formation) {
+        detach();
+        this.slot = formation.allocateSlot(this, x - formation.getX(), y - formation.getY(),
+                                           color.getRGB(), active);
+        this.formation = formation;
+        this.row = -1;
+        this.col = -1;
+    }
+
+    /**
+     * Reprend position monde et état depuis l'emplacement, qui est libéré
+     */
+    void detach() {
+        if (formation == null) return;
+        this.x = formation.getAlienX(slot);
+        this.y = formation.getAlienY(slot);
+        this.active = formation.isAlive(slot);
+        formation.releaseSlot(slot);
+        this.formation = null;
+    }
+
+    void setGridCell(int row, int col) {
+        this.row = row;
+        this.col = col;
+    }
+
+    int getRow() {
+        return row;
+    }
+
+    int getCol() {
+        return col;
+    }
+
+    /** Emplacement dans les tableaux de la formation, valide si getFormation() != null */
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public int getX() {
+        return formation == null ? x : formation.getAlienX(slot);
+    }
+
+    @Override
+    public int getY() {
+        return formation == null ? y : formation.getAlienY(slot);
+    }
+
+    /**
+     * Dans une formation: boîte calculée depuis ses tableaux (pas de Bounds par vue)
+     */
+    @Override
+    public Bounds getBounds() {
+        return formation == null ? super.getBounds() : formation.getAlienBounds(slot);
+    }
+
+    @Override
+    public boolean isActive() {
+        return formation == null ? active : formation.isAlive(slot);
+    }
+
+    @Override
+    public void setActive(boolean active) {
+        if (formation == null) {
+            super.setActive(active);
+        } else {
+            formation.setAlive(slot, active);
+        }
     }
 
+    /**
+     * Détruit l'alien (la formation met à jour ses colonnes, comme pour setActive(false))
+     */
     public void hit() {
+        if (!isActive()) return;
         setActive(false);
     }
-}
\ No newline at end of file
+}
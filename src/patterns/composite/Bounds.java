@@ -0,0 +1,83 @@
+package patterns.composite;
+
+/**
+ * Boîte englobante alignée sur les axes (AABB), bornes incluses
+ * Instances mutables possédées par les composants qui les rendent:
+ * à lire immédiatement, ne pas modifier ni conserver.
+ */
+public final class Bounds {
+    private int minX, minY, maxX, maxY;
+    private boolean empty = true;
+
+    public void clear() {
+        empty = true;
+    }
+
+    public void set(int minX, int minY, int maxX, int maxY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.empty = false;
+    }
+
+    /**
+     * Agrandit la boîte pour contenir une autre boîte
+     */
+    public void union(Bounds other) {
+        if (other.empty) return;
+        if (empty) {
+            set(other.minX, other.minY, other.maxX, other.maxY);
+            return;
+        }
+        minX = Math.min(minX, other.minX);
+        minY = Math.min(minY, other.minY);
+        maxX = Math.max(maxX, other.maxX);
+        maxY = Math.max(maxY, other.maxY);
+    }
+
+    /**
+     * Copie une boîte décalée de (dx, dy) (repère local vers repère monde)
+     */
+    public void setTranslated(Bounds other, int dx, int dy) {
+        if (other.empty) {
+            empty = true;
+            return;
+        }
+        set(other.minX + dx, other.minY + dy, other.maxX + dx, other.maxY + dy);
+    }
+
+    public boolean contains(int x, int y) {
+        return !empty && x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+
+    public boolean intersects(int minX, int minY, int maxX, int maxY) {
+        return !empty && minX <= this.maxX && maxX >= this.minX &&
+               minY <= this.maxY && maxY >= this.minY;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    @Override
+    public String toString() {
+        return empty ? "Bounds[empty]" : "Bounds[" + minX + "," + minY + " - " + maxX + "," + maxY + "]";
+    }
+}
@@ -18,4 +18,10 @@ public interface GameComponent {
     int getY();
     boolean isActive();
     void setActive(boolean active);
+
+    /** Boîte englobante monde (groupes: union des enfants actifs, en cache) */
+    Bounds getBounds();
+
+    /** Appelé par GameGroup.add/remove: le parent est prévenu des déplacements */
+    void setParent(GameGroup parent);
 }
\ No newline at end of file
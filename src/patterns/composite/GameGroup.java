@@ -15,6 +15,11 @@ public class GameGroup implements GameComponent {
     protected List<GameComponent> children;
     protected int x, y;
     protected boolean active = true;
+    protected GameGroup parent;
+
+    // Boîte des enfants actifs, recalculée à la demande après invalidation
+    private final Bounds bounds = new Bounds();
+    private boolean boundsDirty = true;
 
     public GameGroup(String name) {
         this.name = name;
@@ -61,6 +66,8 @@ public class GameGroup implements GameComponent {
     public void add(GameComponent component) {
         if (component != null && !children.contains(component)) {
             children.add(component);
+            component.setParent(this);
+            invalidateBounds();
             Logger.log("COMPOSITE", "Component added to " + name + 
                       " - Total: " + children.size());
         }
@@ -69,6 +76,8 @@ public class GameGroup implements GameComponent {
     @Override
     public void remove(GameComponent component) {
         if (children.remove(component)) {
+            component.setParent(null);
+            invalidateBounds();
             Logger.log("COMPOSITE", "Component removed from " + name + 
                       " - Remaining: " + children.size());
         }
@@ -102,6 +111,10 @@ public class GameGroup implements GameComponent {
     @Override
     public void setActive(boolean active) {
         this.active = active;
+        invalidateBounds();
+        if (parent != null) {
+            parent.invalidateBounds();
+        }
         // Propager aux enfants
         for (GameComponent child : children) {
             child.setActive(active);
@@ -109,6 +122,49 @@ public class GameGroup implements GameComponent {
         Logger.log("COMPOSITE", name + " set to " + (active ? "active" : "inactive"));
     }
 
+    /**
+     * Boîte englobante des enfants actifs, recalculée seulement si un
+     * descendant a bougé ou changé d'état depuis le dernier appel.
+     * Permet de rejeter un sous-arbre entier sans descendre dans les feuilles.
+     */
+    @Override
+    public Bounds getBounds() {
+        if (boundsDirty) {
+            computeBounds(bounds);
+            boundsDirty = false;
+        }
+        return bounds;
+    }
+
+    /**
+     * Calcule la boîte en cache (union des enfants actifs par défaut)
+     */
+    protected void computeBounds(Bounds out) {
+        out.clear();
+        for (GameComponent component : children) {
+            if (component.isActive()) {
+                out.union(component.getBounds());
+            }
+        }
+    }
+
+    /**
+     * Marque la boîte comme périmée, ainsi que celles des ancêtres.
+     * S'arrête sur un groupe déjà périmé: ses ancêtres le sont forcément.
+     */
+    public void invalidateBounds() {
+        if (boundsDirty) return;
+        boundsDirty = true;
+        if (parent != null) {
+            parent.invalidateBounds();
+        }
+    }
+
+    @Override
+    public void setParent(GameGroup parent) {
+        this.parent = parent;
+    }
+
     public String getName() {
         return name;
     }
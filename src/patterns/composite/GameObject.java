@@ -11,6 +11,8 @@ import java.util.List;
 public abstract class GameObject implements GameComponent {
     protected int x, y;
     protected boolean active = true;
+    protected GameGroup parent;
+    private Bounds bounds; // Créée au premier getBounds()
 
     public GameObject(int x, int y) {
         this.x = x;
@@ -61,5 +63,40 @@ public abstract class GameObject implements GameComponent {
     @Override
     public void setActive(boolean active) {
         this.active = active;
+        invalidateParentBounds();
+    }
+
+    /** Largeur de la boîte de collision/culling (0 = point) */
+    public int getWidth() {
+        return 0;
+    }
+
+    public int getHeight() {
+        return 0;
+    }
+
+    @Override
+    public Bounds getBounds() {
+        if (bounds == null) {
+            bounds = new Bounds();
+        }
+        int cx = getX();
+        int cy = getY();
+        bounds.set(cx - getWidth()/2, cy - getHeight()/2, cx + getWidth()/2, cy + getHeight()/2);
+        return bounds;
+    }
+
+    @Override
+    public void setParent(GameGroup parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * À appeler après tout déplacement: la boîte en cache du parent est périmée
+     */
+    protected void invalidateParentBounds() {
+        if (parent != null) {
+            parent.invalidateBounds();
+        }
     }
 }
\ No newline at end of file
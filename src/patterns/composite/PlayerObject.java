@@ -42,10 +42,22 @@ public class PlayerObject extends GameObject {
     public void moveBy(int dx, int dy) {
         this.x += dx;
         this.y += dy;
+        invalidateParentBounds();
     }
 
     public void setPosition(int x, int y) {
         this.x = x;
         this.y = y;
+        invalidateParentBounds();
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package patterns.decorator;
 
 import entities.Player;
+import game.GameClock;
 import utils.Constants;
 import utils.Logger;
 import java.awt.Graphics;
@@ -14,9 +15,18 @@ public class BasicShip implements Ship {
     private int baseSpeed;
     private int baseFireRate;
     private int baseFirePower;
+    private GameClock clock;
 
     public BasicShip(Player player) {
+        this(player, GameClock.system());
+    }
+
+    /**
+     * @param clock horloge lue par les décorateurs ajoutés sur ce vaisseau
+     */
+    public BasicShip(Player player, GameClock clock) {
         this.player = player;
+        this.clock = clock;
         this.baseSpeed = Constants.BASE_PLAYER_SPEED;
         this.baseFireRate = Constants.BASE_FIRE_RATE;
         this.baseFirePower = Constants.BASE_FIRE_POWER;
@@ -78,6 +88,11 @@ public class BasicShip implements Ship {
         return "BasicShip";
     }
 
+    @Override
+    public GameClock getClock() {
+        return clock;
+    }
+
     public Player getPlayer() {
         return player;
     }
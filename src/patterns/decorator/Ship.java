@@ -1,6 +1,7 @@
 package patterns.decorator;
 
 import java.awt.Graphics;
+import game.GameClock;
 
 
 public interface Ship {
@@ -15,4 +16,5 @@ public interface Ship {
     void setY(int y);
     boolean hasShield();
     String getStatus(); // Pour le logging
+    GameClock getClock(); // Horloge partagée par toute la chaîne
 }
\ No newline at end of file
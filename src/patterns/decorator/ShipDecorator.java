@@ -1,5 +1,6 @@
 package patterns.decorator;
 
+import game.GameClock;
 import utils.Logger;
 import java.awt.Graphics;
 
@@ -7,11 +8,13 @@ public abstract class ShipDecorator implements Ship {
     protected Ship decoratedShip;
     protected long appliedTime;
     protected long duration;
+    protected final GameClock clock;
     private boolean hasExpired = false; // FIX: Track if already expired
 
     public ShipDecorator(Ship ship, long duration) {
         this.decoratedShip = ship;
-        this.appliedTime = System.currentTimeMillis();
+        this.clock = ship.getClock(); // Même horloge que le vaisseau décoré
+        this.appliedTime = clock.currentTimeMillis();
         this.duration = duration;
         
         String decoratorName = this.getClass().getSimpleName();
@@ -51,7 +54,7 @@ public abstract class ShipDecorator implements Ship {
 
     protected void checkExpiration() {
         if (duration > 0 && !hasExpired) { // FIX: Only check if not already expired
-            long elapsed = System.currentTimeMillis() - appliedTime;
+            long elapsed = clock.currentTimeMillis() - appliedTime;
             if (elapsed >= duration) {
                 hasExpired = true; // FIX: Mark as expired
                 onExpire();
@@ -64,12 +67,22 @@ public abstract class ShipDecorator implements Ship {
         Logger.log("DECORATOR", decoratorName + " expired");
     }
 
+    @Override
+    public GameClock getClock() {
+        return clock;
+    }
+
+    public long getAppliedTime() {
+        return appliedTime;
+    }
+
     public Ship getDecoratedShip() {
         return decoratedShip;
     }
 
     public boolean isExpired() {
         if (duration == 0) return false;
-        return (System.currentTimeMillis() - appliedTime) >= duration;
+        if (hasExpired) return true; // Définitif: plus besoin de lire l'horloge
+        return (clock.currentTimeMillis() - appliedTime) >= duration;
     }
 }
\ No newline at end of file
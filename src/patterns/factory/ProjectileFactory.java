@@ -9,11 +9,52 @@ import utils.Logger;
  * Crée différents types de projectiles selon l'ID fourni
  */
 public class ProjectileFactory {
+    private static final int TYPE_COUNT = 3; // Identifiants 0..2 de Constants
+
+    // Caractéristiques par identifiant de type, lues aussi par la simulation (ProjectileBuffer):
+    // déplacement vertical par tick (< 0: vers le haut), dégâts, masque de collision
+    private static final int[] VELOCITY_Y = {
+        -Constants.NORMAL_PROJECTILE_SPEED, -Constants.POWER_PROJECTILE_SPEED, Constants.ALIEN_BOMB_SPEED
+    };
+    private static final int[] DAMAGE = {
+        Constants.NORMAL_PROJECTILE_DAMAGE, Constants.POWER_PROJECTILE_DAMAGE, Constants.ALIEN_BOMB_DAMAGE
+    };
+    private static final CollisionMask[] MASKS = {
+        CollisionMask.forSprite(Constants.NORMAL_PROJECTILE_IMAGE,
+            Constants.NORMAL_PROJECTILE_WIDTH, Constants.NORMAL_PROJECTILE_HEIGHT),
+        CollisionMask.forSprite(Constants.POWER_PROJECTILE_IMAGE,
+            Constants.POWER_PROJECTILE_WIDTH, Constants.POWER_PROJECTILE_HEIGHT),
+        CollisionMask.forSprite(Constants.ALIEN_BOMB_IMAGE,
+            Constants.ALIEN_BOMB_WIDTH, Constants.ALIEN_BOMB_HEIGHT)
+    };
 
     public ProjectileFactory() {
         Logger.info("ProjectileFactory initialized");
     }
 
+    public static boolean isKnownType(int type) {
+        return type >= 0 && type < TYPE_COUNT;
+    }
+
+    /**
+     * Déplacement vertical par tick des projectiles de ce type (< 0: vers le haut)
+     */
+    public static int velocityOf(int type) {
+        return VELOCITY_Y[type];
+    }
+
+    public static int damageOf(int type) {
+        return DAMAGE[type];
+    }
+
+    /**
+     * Masque de collision des projectiles de ce type, sans créer de projectile
+     * (la simulation teste ainsi ses tirs stockés en tableaux)
+     */
+    public static CollisionMask collisionMaskOf(int type) {
+        return MASKS[type];
+    }
+
     /**
      * Crée un projectile selon le type demandé
      * @param type ID du type de projectile
@@ -3,269 +3,99 @@ package patterns.state;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import game.Board;
-import entities.*;
-import patterns.factory.ProjectileFactory;
-import patterns.decorator.*;
-import patterns.composite.*;
+import game.GameLoop;
+import game.GameSimulation;
+import game.InputQueue;
+import game.InputState;
+import game.RenderSnapshot;
+import ui.ActiveRenderer;
+import ui.GameRenderer;
 import utils.Constants;
 import utils.Logger;
 
 /**
- * FIXED: Decorators now properly affect gameplay
- * - SpeedBoost visibly increases movement
- * - TripleShot fires 3 projectiles
- * - RapidFire reduces cooldown
- * - Shield protects from alien bombs (if implemented)
+ * État PLAYING: relie la GameSimulation à Swing
+ * - la boucle de jeu fait avancer la simulation sur son propre thread
+ * - le clavier est transmis par une InputQueue
+ * - le rendu dessine les snapshots publiés par la simulation
+ * - la fin de partie déclenche la transition vers StateWon / StateLost
  */
 public class StateGame implements State {
 
     private Board board;
     private GamePanel gamePanel;
-    private ProjectileFactory projectileFactory;
-    private Player player;
-    private Ship playerShip;
-    private GameScene gameScene;
-    private AlienFormation alienFormation;
-    private ArrayList<Projectile> projectiles;
-    private int score;
+    private GameLoop gameLoop;
+    private GameSimulation simulation;
     private boolean isPaused;
-    private int lastPowerUpScore = 0;
+    private boolean isFinished = false;
     
-    private int playerX;
-    private int playerY;
-    
-    private long lastShotTime;
+    // Dernier état publié par la simulation, lu par le rendu sans verrou
+    private final AtomicReference<RenderSnapshot> latestSnapshot = new AtomicReference<>();
+    // Transitions clavier reçues sur l'EDT, lues une fois par tick par la simulation
+    private final InputQueue inputQueue = new InputQueue();
+    private final InputState inputState = new InputState();
 
     public StateGame(Board board) {
         this.board = board;
-        this.projectileFactory = new ProjectileFactory();
-        this.player = new Player();
-        this.projectiles = new ArrayList<>();
-        this.score = 0;
         this.isPaused = false;
-        this.playerX = 400;
-        this.playerY = 550;
-        this.lastShotTime = 0;
         
         Logger.state("StateGame instantiated");
         setup();
     }
 
     private void setup() {
-        Logger.info("Setting up game with all design patterns...");
-        
         gamePanel = new GamePanel();
+        simulation = new GameSimulation();
         
-        // Initialize with BasicShip
-        playerShip = new BasicShip(player);
-        Logger.decorator("BasicShip created - Speed:" + playerShip.getSpeed() + 
-                        " FireRate:" + playerShip.getFireRate() + "ms");
-        
-        gameScene = new GameScene();
-        Logger.composite("GameScene created (root composite)");
-        
-        createAlienFormation();
-        
-        Logger.info("Game setup complete - All 4 patterns active!");
+        // Démarrer la simulation une fois la scène entièrement construite
+        startGameLoop();
     }
     
-    private void createAlienFormation() {
-        Logger.composite("Creating alien formation...");
-        
-        alienFormation = AlienFormation.createRectangularFormation(
-            "MainFormation", 5, 11, 150, 50, 40
-        );
-        
-        alienFormation.setSpeed(1);
-        gameScene.getEnemyGroup().add(alienFormation);
+    public void gameWon() {
+        Logger.state("STATE TRANSITION: PLAYING -> WON");
+        Logger.info("VICTORY! Final score: " + simulation.getScore());
         
-        Logger.composite("AlienFormation (5x11=55 aliens) added to GameScene");
-    }
-    
-    private void checkAndApplyPowerUps() {
-        if (score >= lastPowerUpScore + 50 && score > 0) {
-            lastPowerUpScore = score;
-            applyRandomPowerUp();
-        }
+        int score = simulation.getScore();
+        finishGame(() -> new StateWon(board, score));
     }
     
-    private void applyRandomPowerUp() {
-        int random = (int)(Math.random() * 4);
-        
-        String powerUpName = "";
-        switch(random) {
-            case 0:
-                playerShip = new SpeedBoostDecorator(playerShip);
-                powerUpName = "SpeedBoost (Speed x2)";
-                break;
-            case 1:
-                playerShip = new TripleShotDecorator(playerShip);
-                powerUpName = "TripleShot (3 bullets)";
-                break;
-            case 2:
-                playerShip = new RapidFireDecorator(playerShip);
-                powerUpName = "RapidFire (Cooldown x0.5)";
-                break;
-            case 3:
-                playerShip = new ShieldDecorator(playerShip);
-                powerUpName = "Shield (3 hits)";
-                break;
-        }
+    public void gameOver() {
+        Logger.state("STATE TRANSITION: PLAYING -> LOST");
+        Logger.info("GAME OVER! Final score: " + simulation.getScore());
         
-        Logger.decorator(powerUpName + " applied! Current stats: Speed=" + 
-                        playerShip.getSpeed() + " FireRate=" + playerShip.getFireRate());
+        int score = simulation.getScore();
+        finishGame(() -> new StateLost(board, score));
     }
-    
+
     /**
-     * CRITICAL FIX: Directly use decorator values instead of caching
+     * La boucle a planté: la partie est perdue plutôt que figée sur la dernière frame
+     * (appelé depuis le thread de simulation)
      */
-    private void fireProjectile() {
-        long currentTime = System.currentTimeMillis();
-        
-        // Get fire rate DIRECTLY from decorator (not cached)
-        long shotCooldown = playerShip.getFireRate();
-        
-        if (currentTime - lastShotTime < shotCooldown) {
-            return; // Still on cooldown
-        }
-        
-        // Get fire power DIRECTLY from decorator
-        int firePower = playerShip.getFirePower();
-        
-        if (firePower == 1) {
-            // Normal single shot
-            Projectile p = projectileFactory.makeProjectile(
-                Constants.NORMAL_PROJECTILE_ID, playerX, playerY - 20
-            );
-            projectiles.add(p);
-            Logger.info("Normal shot fired (FirePower=1)");
-            
-        } else if (firePower >= 3) {
-            // Triple shot
-            Projectile left = projectileFactory.makeProjectile(
-                Constants.NORMAL_PROJECTILE_ID, playerX - 15, playerY - 20
-            );
-            Projectile center = projectileFactory.makeProjectile(
-                Constants.NORMAL_PROJECTILE_ID, playerX, playerY - 20
-            );
-            Projectile right = projectileFactory.makeProjectile(
-                Constants.NORMAL_PROJECTILE_ID, playerX + 15, playerY - 20
-            );
-            projectiles.add(left);
-            projectiles.add(center);
-            projectiles.add(right);
-            Logger.info("Triple shot fired! (FirePower=" + firePower + ")");
-        }
-        
-        lastShotTime = currentTime;
-    }
-    
-    private void updateProjectiles() {
-        Iterator<Projectile> it = projectiles.iterator();
-        
-        while (it.hasNext()) {
-            Projectile projectile = it.next();
-            
-            if (!projectile.draw()) {
-                it.remove();
-                continue;
-            }
-            
-            projectile.setYCoord(projectile.getYCoord() - 15);
-            
-            if (projectile.getYCoord() < 0) {
-                projectile.setDraw(false);
-                it.remove();
-            }
-        }
-    }
-    
-    private void checkCollisions() {
-        for (Projectile projectile : projectiles) {
-            if (!projectile.draw()) continue;
-            
-            for (GameComponent component : gameScene.getEnemyGroup().getChildren()) {
-                if (component instanceof AlienFormation) {
-                    AlienFormation formation = (AlienFormation) component;
-                    
-                    for (GameComponent alienComp : formation.getChildren()) {
-                        if (alienComp instanceof AlienObject && alienComp.isActive()) {
-                            AlienObject alien = (AlienObject) alienComp;
-                            
-                            if (checkProjectileAlienCollision(projectile, alien)) {
-                                projectile.setDraw(false);
-                                alien.hit();
-                                score += 10;
-                                
-                                Logger.info("Hit! Score: " + score + " (Remaining: " + 
-                                           formation.countActiveComponents() + ")");
-                                
-                                if (formation.countActiveComponents() == 0) {
-                                    gameWon();
-                                    return;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        
-        checkAndApplyPowerUps();
-        checkAlienReachedPlayer();
-    }
-    
-    private boolean checkProjectileAlienCollision(Projectile projectile, AlienObject alien) {
-        int px = projectile.getXCoord();
-        int py = projectile.getYCoord();
-        int ax = alien.getX();
-        int ay = alien.getY();
-        
-        return px > ax - 15 && px < ax + 15 && py > ay - 10 && py < ay + 10;
-    }
-    
-    private void checkAlienReachedPlayer() {
-        for (GameComponent component : gameScene.getEnemyGroup().getChildren()) {
-            if (component instanceof AlienFormation) {
-                AlienFormation formation = (AlienFormation) component;
-                for (GameComponent alienComp : formation.getChildren()) {
-                    if (alienComp instanceof AlienObject && alienComp.isActive()) {
-                        AlienObject alien = (AlienObject) alienComp;
-                        if (alien.getY() > 500) {
-                            Logger.info("Alien reached player - Game Over!");
-                            gameOver();
-                            return;
-                        }
-                    }
-                }
-            }
-        }
-    }
-    
-    public void gameWon() {
-        Logger.state("STATE TRANSITION: PLAYING -> WON");
-        Logger.info("VICTORY! Final score: " + score);
-        
-        if (gamePanel != null && gamePanel.updateTimer != null) {
-            gamePanel.updateTimer.stop();
-        }
-        
-        board.setCurrentState(new StateWon(board, score));
+    private void gameCrashed(RuntimeException error) {
+        if (isFinished) return;
+        Logger.state("STATE TRANSITION: PLAYING -> LOST (game loop failure: " + error + ")");
+
+        int score = simulation.getScore();
+        finishGame(() -> new StateLost(board, score));
     }
     
-    public void gameOver() {
-        Logger.state("STATE TRANSITION: PLAYING -> LOST");
-        Logger.info("GAME OVER! Final score: " + score);
+    /**
+     * Arrête la boucle et effectue la transition sur l'EDT
+     * (appelé depuis le thread de simulation). L'état suivant construit des
+     * composants Swing: il est créé sur l'EDT, pas ici.
+     */
+    private void finishGame(Supplier<State> nextState) {
+        isFinished = true;
         
-        if (gamePanel != null && gamePanel.updateTimer != null) {
-            gamePanel.updateTimer.stop();
+        if (gameLoop != null) {
+            gameLoop.stop();
         }
         
-        board.setCurrentState(new StateLost(board, score));
+        SwingUtilities.invokeLater(() -> board.setCurrentState(nextState.get()));
     }
 
     @Override
@@ -291,20 +121,126 @@ public class StateGame implements State {
         State.super.onExit();
         Logger.state("STATE: Exiting PLAYING state");
         
-        if (gamePanel != null && gamePanel.updateTimer != null) {
-            gamePanel.updateTimer.stop();
+        if (gameLoop != null) {
+            gameLoop.stop(); // Les stats d'entrée sont journalisées par la boucle à sa sortie
+        }
+    }
+    
+    /**
+     * La simulation tourne sur son propre thread à pas fixe,
+     * l'EDT ne fait plus que peindre (repaint() est thread-safe)
+     */
+    private void startGameLoop() {
+        Runnable renderer = gamePanel.isActiveRendering()
+            ? gamePanel.activeRenderer::render
+            : gamePanel::repaint;
+        
+        // En mode interpolé, le rendu suit l'écran et non la simulation
+        int framesPerSecond = gamePanel.isInterpolating() ? displayRefreshRate() : 0;
+        
+        gameLoop = new GameLoop(
+            Constants.TICKS_PER_SECOND, framesPerSecond, Constants.MAX_STEPS_PER_FRAME,
+            this::tick, renderer
+        );
+        gameLoop.setFailureHandler(this::gameCrashed);
+        // Même thread que drainInto: les compteurs de latence s'y lisent sans synchronisation
+        gameLoop.setStopHandler(() -> Logger.info("Input stats - " + inputQueue.getLatencySummary()));
+        gameLoop.start();
+    }
+    
+    /**
+     * Cadence de rendu: -Dinvaders.fps, sinon la fréquence de l'écran principal
+     */
+    private int displayRefreshRate() {
+        int fps = Integer.getInteger(Constants.RENDER_FPS_PROPERTY, 0);
+        if (fps > 0) {
+            return fps;
+        }
+        
+        if (!GraphicsEnvironment.isHeadless()) {
+            int refreshRate = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDisplayMode().getRefreshRate();
+            if (refreshRate != DisplayMode.REFRESH_RATE_UNKNOWN) {
+                return refreshRate;
+            }
+        }
+        return Constants.DEFAULT_RENDER_FPS;
+    }
+    
+    /**
+     * Un pas de simulation, exécuté sur le thread de la boucle de jeu
+     */
+    private void tick() {
+        inputQueue.drainInto(inputState);
+        
+        if (inputState.wasPressed(InputState.PAUSE)) {
+            isPaused = !isPaused;
+            Logger.state("Game " + (isPaused ? "PAUSED" : "RESUMED"));
         }
+        
+        if (!isPaused && !isFinished) {
+            switch (simulation.step(inputState)) {
+                case WON:
+                    gameWon();
+                    break;
+                case LOST:
+                    gameOver();
+                    break;
+                default:
+                    break;
+            }
+        }
+        
+        // Publication atomique: le rendu garde l'ancien snapshot tant qu'il le dessine
+        latestSnapshot.set(simulation.snapshot(isPaused));
     }
 
+    /**
+     * Panel du jeu. Deux backends de rendu, choisis au démarrage:
+     * - passif (défaut): paintComponent() via repaint() sur l'EDT
+     * - actif (-Dinvaders.render=active): Canvas + BufferStrategy
+     *   dessiné directement par le thread de la boucle de jeu
+     */
     class GamePanel extends JPanel {
         
-        Timer updateTimer;
+        ActiveRenderer activeRenderer;
+        private final GameRenderer renderer;
         
         public GamePanel() {
             initializePanel();
+            
+            renderer = new GameRenderer(
+                Boolean.getBoolean(Constants.INTERPOLATION_PROPERTY),
+                1_000_000_000L / Constants.TICKS_PER_SECOND
+            );
+            
+            if (Constants.RENDER_MODE_ACTIVE.equalsIgnoreCase(
+                    System.getProperty(Constants.RENDER_MODE_PROPERTY))) {
+                activeRenderer = new ActiveRenderer(this::paintFrame);
+                setLayout(new BorderLayout());
+                add(activeRenderer, BorderLayout.CENTER);
+                Logger.info("Render backend: active (BufferStrategy)");
+            }
+            
             setupKeyListener();
             setupMouseListener();
-            startGameLoop();
+        }
+        
+        boolean isActiveRendering() {
+            return activeRenderer != null;
+        }
+        
+        boolean isInterpolating() {
+            return renderer.isInterpolating();
+        }
+        
+        @Override
+        public boolean requestFocusInWindow() {
+            // En mode actif c'est le canvas qui reçoit le clavier
+            if (activeRenderer != null) {
+                return activeRenderer.requestFocusInWindow();
+            }
+            return super.requestFocusInWindow();
         }
         
         private void initializePanel() {
@@ -321,199 +257,86 @@ public class StateGame implements State {
         }
         
         private void setupKeyListener() {
-            addKeyListener(new KeyAdapter() {
+            // Les transitions sont seulement enregistrées: pas de repaint, pas de logique
+            KeyAdapter keyAdapter = new KeyAdapter() {
                 @Override
                 public void keyPressed(KeyEvent e) {
-                    handleKeyPress(e.getKeyCode());
+                    int action = actionFor(e.getKeyCode());
+                    if (action >= 0) {
+                        inputQueue.keyDown(action);
+                    }
                 }
-            });
+                
+                @Override
+                public void keyReleased(KeyEvent e) {
+                    int action = actionFor(e.getKeyCode());
+                    if (action >= 0) {
+                        inputQueue.keyUp(action);
+                    }
+                }
+            };
+            FocusAdapter focusAdapter = new FocusAdapter() {
+                @Override
+                public void focusLost(FocusEvent e) {
+                    inputQueue.releaseAll();
+                }
+            };
+            
+            addKeyListener(keyAdapter);
+            addFocusListener(focusAdapter);
+            if (activeRenderer != null) {
+                activeRenderer.addKeyListener(keyAdapter);
+                activeRenderer.addFocusListener(focusAdapter);
+            }
         }
         
-        /**
-         * CRITICAL FIX: Get speed directly from decorator each time
-         */
-        private void handleKeyPress(int keyCode) {
-            switch(keyCode) {
+        private int actionFor(int keyCode) {
+            switch (keyCode) {
                 case KeyEvent.VK_LEFT:
                 case KeyEvent.VK_A:
-                    if (!isPaused) {
-                        // Get speed DIRECTLY from decorator
-                        int speed = playerShip.getSpeed();
-                        playerX -= speed;
-                        if (playerX < 30) playerX = 30;
-                        
-                        Logger.info("Move LEFT - Speed: " + speed + " NewX: " + playerX);
-                    }
-                    break;
-                    
+                    return InputState.LEFT;
                 case KeyEvent.VK_RIGHT:
                 case KeyEvent.VK_D:
-                    if (!isPaused) {
-                        // Get speed DIRECTLY from decorator
-                        int speed = playerShip.getSpeed();
-                        playerX += speed;
-                        if (playerX > 770) playerX = 770;
-                        
-                        Logger.info("Move RIGHT - Speed: " + speed + " NewX: " + playerX);
-                    }
-                    break;
-                    
+                    return InputState.RIGHT;
                 case KeyEvent.VK_SPACE:
-                    if (!isPaused) {
-                        fireProjectile(); // Uses decorator fire rate
-                    }
-                    break;
-                    
+                    return InputState.FIRE;
                 case KeyEvent.VK_ESCAPE:
-                    isPaused = !isPaused;
-                    Logger.state("Game " + (isPaused ? "PAUSED" : "RESUMED"));
-                    break;
+                    return InputState.PAUSE;
+                default:
+                    return -1;
             }
-            repaint();
         }
         
         private void setupMouseListener() {
-            addMouseListener(new MouseAdapter() {
+            MouseAdapter mouseAdapter = new MouseAdapter() {
                 @Override
                 public void mouseClicked(MouseEvent e) {
                     requestFocusInWindow();
                 }
-            });
-        }
-        
-        private void startGameLoop() {
-            updateTimer = new Timer(16, new ActionListener() {
-                @Override
-                public void actionPerformed(ActionEvent e) {
-                    if (!isPaused) {
-                        gameScene.update();
-                        updateProjectiles();
-                        checkCollisions();
-                        playerShip.update(); // Updates decorators
-                        repaint();
-                    }
-                }
-            });
-            updateTimer.start();
-            Logger.info("Game loop started at 60 FPS");
+            };
+            addMouseListener(mouseAdapter);
+            if (activeRenderer != null) {
+                activeRenderer.addMouseListener(mouseAdapter);
+            }
         }
         
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
-            Graphics2D g2d = (Graphics2D) g;
-            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            
-            drawBackground(g2d);
-            drawGameElements(g2d);
-            drawPlayerShip(g2d);
-            drawUI(g2d);
-            
-            if (isPaused) {
-                drawPauseOverlay(g2d);
+            if (activeRenderer != null) {
+                return; // Le canvas se dessine lui-même
             }
-        }
-        
-        private void drawBackground(Graphics2D g2d) {
-            GradientPaint gradient = new GradientPaint(
-                0, 0, new Color(5, 10, 25),
-                0, getHeight(), new Color(15, 25, 50)
-            );
-            g2d.setPaint(gradient);
-            g2d.fillRect(0, 0, getWidth(), getHeight());
             
-            g2d.setColor(new Color(255, 255, 255, 150));
-            java.util.Random starRandom = new java.util.Random(42);
-            for (int i = 0; i < 50; i++) {
-                int sx = starRandom.nextInt(getWidth());
-                int sy = starRandom.nextInt(getHeight());
-                g2d.fillRect(sx, sy, 2, 2);
-            }
-        }
-        
-        private void drawGameElements(Graphics2D g2d) {
-            if (gameScene != null) {
-                gameScene.render(g2d);
-            }
-            
-            for (Projectile projectile : projectiles) {
-                if (projectile.draw()) {
-                    drawProjectile(g2d, projectile);
-                }
-            }
-        }
-        
-        private void drawProjectile(Graphics2D g2d, Projectile projectile) {
-            int px = projectile.getXCoord();
-            int py = projectile.getYCoord();
-            
-            g2d.setColor(new Color(255, 255, 200, 100));
-            g2d.fillRect(px - 5, py - 14, 10, 28);
-            
-            g2d.setColor(new Color(255, 255, 100));
-            g2d.fillRect(px - 3, py - 12, 6, 24);
-        }
-        
-        private void drawPlayerShip(Graphics2D g2d) {
-            g2d.setColor(new Color(0, 255, 255));
-            int[] xPoints = {playerX, playerX - 30, playerX + 30};
-            int[] yPoints = {playerY - 25, playerY + 20, playerY + 20};
-            g2d.fillPolygon(xPoints, yPoints, 3);
-            
-            g2d.setColor(Color.WHITE);
-            g2d.setStroke(new BasicStroke(2));
-            g2d.drawPolygon(xPoints, yPoints, 3);
-            
-            g2d.setColor(new Color(255, 255, 100));
-            g2d.fillOval(playerX - 8, playerY - 5, 16, 16);
-            
-            // Shield visual effect
-            if (playerShip.hasShield()) {
-                g2d.setColor(new Color(0, 150, 255, 100));
-                g2d.fillOval(playerX - 35, playerY - 30, 70, 70);
-                g2d.setColor(new Color(0, 200, 255));
-                g2d.setStroke(new BasicStroke(3));
-                g2d.drawOval(playerX - 35, playerY - 30, 70, 70);
-            }
-        }
-        
-        private void drawUI(Graphics2D g2d) {
-            g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Monospaced", Font.BOLD, 28));
-            g2d.drawString("SCORE: " + score, 20, 45);
-            
-            int aliensRemaining = alienFormation.countActiveComponents();
-            g2d.drawString("ALIENS: " + aliensRemaining, 20, 80);
-            
-            // Show current decorator status
-            g2d.setFont(new Font("Monospaced", Font.BOLD, 16));
-            g2d.setColor(new Color(255, 215, 0));
-            String status = playerShip.getStatus();
-            if (!status.equals("BasicShip")) {
-                g2d.drawString("STATUS: " + status, 20, 115);
-            }
-            
-            // Show actual stats
-            g2d.setColor(new Color(150, 255, 150));
-            g2d.drawString("Speed: " + playerShip.getSpeed() + 
-                          " | FireRate: " + playerShip.getFireRate() + "ms" +
-                          " | FirePower: " + playerShip.getFirePower(), 20, 140);
-            
-            // Next power-up indicator
-            int nextPowerUp = lastPowerUpScore + 50;
-            g2d.drawString("Next Power-Up: " + nextPowerUp + " pts", 20, 165);
+            Graphics2D g2d = (Graphics2D) g;
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            paintFrame(g2d, getWidth(), getHeight());
         }
         
-        private void drawPauseOverlay(Graphics2D g2d) {
-            g2d.setColor(new Color(0, 0, 0, 180));
-            g2d.fillRect(0, 0, getWidth(), getHeight());
-            
-            g2d.setColor(new Color(255, 255, 100));
-            g2d.setFont(new Font("Arial", Font.BOLD, 72));
-            String pauseText = "PAUSED";
-            FontMetrics fm = g2d.getFontMetrics();
-            int textWidth = fm.stringWidth(pauseText);
-            g2d.drawString(pauseText, (getWidth() - textWidth) / 2, getHeight() / 2);
+        /**
+         * Dessine une frame complète, commun aux deux backends de rendu
+         */
+        private void paintFrame(Graphics2D g2d, int width, int height) {
+            renderer.render(g2d, latestSnapshot.get(), width, height);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package ui;
+
+import java.awt.Canvas;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import utils.Logger;
+
+/**
+ * Rendu actif: dessine directement dans une BufferStrategy (page flipping
+ * si disponible, sinon blit) depuis le thread de la boucle de jeu,
+ * sans passer par le RepaintManager de Swing.
+ */
+public class ActiveRenderer extends Canvas {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Dessine une frame complète dans le buffer arrière
+     */
+    public interface Painter {
+        void paint(Graphics2D g2d, int width, int height);
+    }
+
+    private static final int BUFFER_COUNT = 2;
+
+    private final Painter painter;
+    private volatile BufferStrategy strategy;
+
+    public ActiveRenderer(Painter painter) {
+        this.painter = painter;
+        setIgnoreRepaint(true);
+        setFocusable(true);
+    }
+
+    /**
+     * Dessine et présente une frame. Appelé depuis le thread de la boucle de jeu;
+     * ne fait rien tant que le canvas n'est pas affiché.
+     */
+    public void render() {
+        if (!isDisplayable() || getWidth() <= 0 || getHeight() <= 0) {
+            return;
+        }
+        try {
+            BufferStrategy strategy = this.strategy;
+            if (strategy == null) {
+                createBufferStrategy(BUFFER_COUNT);
+                strategy = getBufferStrategy();
+                this.strategy = strategy;
+                Logger.info("Active rendering enabled - page flipping: " +
+                           strategy.getCapabilities().isPageFlipping());
+            }
+            presentFrame(strategy);
+        } catch (IllegalStateException e) {
+            // Peer détruit pendant la frame (changement d'état): abandonner
+            this.strategy = null;
+        }
+    }
+
+    private void presentFrame(BufferStrategy strategy) {
+        do {
+            do {
+                Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                                         RenderingHints.VALUE_ANTIALIAS_ON);
+                    painter.paint(g2d, getWidth(), getHeight());
+                } finally {
+                    g2d.dispose();
+                }
+            } while (strategy.contentsRestored());
+
+            strategy.show();
+        } while (strategy.contentsLost());
+
+        // Pousser la frame vers l'écran sans attendre le pipeline du toolkit
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    @Override
+    public void removeNotify() {
+        // Le peer disparaît: la stratégie devra être recréée
+        strategy = null;
+        super.removeNotify();
+    }
+}
@@ -0,0 +1,217 @@
+package ui;
+
+import java.awt.*;
+import game.RenderSnapshot;
+import utils.Constants;
+
+/**
+ * Dessine l'écran de jeu à partir d'un RenderSnapshot
+ * Ne lit aucun état mutable de la simulation: peut tourner sur n'importe quel thread.
+ *
+ * En mode interpolé, les positions sont reculées de (1 - alpha) fois le
+ * déplacement du dernier tick, alpha étant la fraction de tick écoulée depuis
+ * la publication du snapshot. L'affichage a donc un tick de retard, mais reste
+ * fluide quand l'écran rafraîchit plus vite que la simulation.
+ */
+public class GameRenderer {
+    private static final int STAR_COUNT = 50;
+    private static final Color STAR_COLOR = new Color(255, 255, 255, 150);
+    private static final Color PROJECTILE_GLOW = new Color(255, 255, 200, 100);
+    private static final Color PROJECTILE_CORE = new Color(255, 255, 100);
+    private static final Color SHIP_BODY = new Color(0, 255, 255);
+    private static final Color SHIP_COCKPIT = new Color(255, 255, 100);
+    private static final Color SHIELD_FILL = new Color(0, 150, 255, 100);
+    private static final Color SHIELD_EDGE = new Color(0, 200, 255);
+    private static final Color STATUS_COLOR = new Color(255, 215, 0);
+    private static final Color STATS_COLOR = new Color(150, 255, 150);
+    private static final Font SCORE_FONT = new Font("Monospaced", Font.BOLD, 28);
+    private static final Font STATUS_FONT = new Font("Monospaced", Font.BOLD, 16);
+    private static final Font PAUSE_FONT = new Font("Arial", Font.BOLD, 72);
+
+    private final boolean interpolate;
+    private final long tickNanos;
+
+    // Champ d'étoiles calculé une fois par taille d'écran (et non à chaque frame)
+    private int[] starX;
+    private int[] starY;
+    private int starFieldWidth;
+    private int starFieldHeight;
+
+    // Dernière couleur d'alien utilisée (évite un new Color par alien)
+    private int lastAlienRgb;
+    private Color lastAlienColor;
+
+    public GameRenderer(boolean interpolate, long tickNanos) {
+        this.interpolate = interpolate;
+        this.tickNanos = tickNanos;
+    }
+
+    public boolean isInterpolating() {
+        return interpolate;
+    }
+
+    public void render(Graphics2D g2d, RenderSnapshot snapshot, int width, int height) {
+        drawBackground(g2d, width, height);
+        if (snapshot == null) {
+            return; // Aucun tick publié pour l'instant
+        }
+
+        // Part du déplacement du dernier tick qui reste à "rattraper"
+        float lag = 1f - interpolationAlpha(snapshot);
+
+        drawAliens(g2d, snapshot, lag);
+        drawProjectiles(g2d, snapshot, lag);
+        drawPlayerShip(g2d, snapshot, lag);
+        drawUI(g2d, snapshot);
+
+        if (snapshot.isPaused()) {
+            drawPauseOverlay(g2d, width, height);
+        }
+    }
+
+    private float interpolationAlpha(RenderSnapshot snapshot) {
+        if (!interpolate || snapshot.isPaused()) {
+            return 1f;
+        }
+        long elapsed = System.nanoTime() - snapshot.getPublishedNanos();
+        return Math.max(0f, Math.min(1f, (float) elapsed / tickNanos));
+    }
+
+    private static int blend(int current, int delta, float lag) {
+        return current - Math.round(delta * lag);
+    }
+
+    private void drawBackground(Graphics2D g2d, int width, int height) {
+        GradientPaint gradient = new GradientPaint(
+            0, 0, new Color(5, 10, 25),
+            0, height, new Color(15, 25, 50)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, width, height);
+
+        if (starX == null || width != starFieldWidth || height != starFieldHeight) {
+            buildStarField(width, height);
+        }
+        g2d.setColor(STAR_COLOR);
+        for (int i = 0; i < starX.length; i++) {
+            g2d.fillRect(starX[i], starY[i], 2, 2);
+        }
+    }
+
+    /**
+     * Disposition fixe (graine 42): décorative, indépendante de la session
+     */
+    private void buildStarField(int width, int height) {
+        java.util.Random starRandom = new java.util.Random(42);
+        starX = new int[STAR_COUNT];
+        starY = new int[STAR_COUNT];
+        for (int i = 0; i < STAR_COUNT; i++) {
+            starX[i] = starRandom.nextInt(width);
+            starY[i] = starRandom.nextInt(height);
+        }
+        starFieldWidth = width;
+        starFieldHeight = height;
+    }
+
+    private void drawAliens(Graphics2D g2d, RenderSnapshot snapshot, float lag) {
+        int w = Constants.NORMAL_ALIEN_WIDTH;
+        int h = Constants.NORMAL_ALIEN_HEIGHT;
+
+        for (int i = 0; i < snapshot.getAlienCount(); i++) {
+            int x = blend(snapshot.getAlienX(i), snapshot.getAlienDx(i), lag);
+            int y = blend(snapshot.getAlienY(i), snapshot.getAlienDy(i), lag);
+
+            g2d.setColor(alienColor(snapshot.getAlienColor(i)));
+            g2d.fillRect(x - w/2, y - h/2, w, h);
+
+            // Yeux
+            g2d.setColor(Color.WHITE);
+            g2d.fillRect(x - 10, y - 5, 5, 5);
+            g2d.fillRect(x + 5, y - 5, 5, 5);
+        }
+    }
+
+    private Color alienColor(int rgb) {
+        if (lastAlienColor == null || rgb != lastAlienRgb) {
+            lastAlienRgb = rgb;
+            lastAlienColor = new Color(rgb, true);
+        }
+        return lastAlienColor;
+    }
+
+    private void drawProjectiles(Graphics2D g2d, RenderSnapshot snapshot, float lag) {
+        for (int i = 0; i < snapshot.getProjectileCount(); i++) {
+            int px = snapshot.getProjectileX(i);
+            int py = blend(snapshot.getProjectileY(i), snapshot.getProjectileDy(i), lag);
+
+            g2d.setColor(PROJECTILE_GLOW);
+            g2d.fillRect(px - 5, py - 14, 10, 28);
+
+            g2d.setColor(PROJECTILE_CORE);
+            g2d.fillRect(px - 3, py - 12, 6, 24);
+        }
+    }
+
+    private void drawPlayerShip(Graphics2D g2d, RenderSnapshot snapshot, float lag) {
+        int playerX = blend(snapshot.getPlayerX(),
+                            snapshot.getPlayerX() - snapshot.getPreviousPlayerX(), lag);
+        int playerY = snapshot.getPlayerY();
+
+        g2d.setColor(SHIP_BODY);
+        int[] xPoints = {playerX, playerX - 30, playerX + 30};
+        int[] yPoints = {playerY - 25, playerY + 20, playerY + 20};
+        g2d.fillPolygon(xPoints, yPoints, 3);
+
+        g2d.setColor(Color.WHITE);
+        g2d.setStroke(new BasicStroke(2));
+        g2d.drawPolygon(xPoints, yPoints, 3);
+
+        g2d.setColor(SHIP_COCKPIT);
+        g2d.fillOval(playerX - 8, playerY - 5, 16, 16);
+
+        // Shield visual effect
+        if (snapshot.hasShield()) {
+            g2d.setColor(SHIELD_FILL);
+            g2d.fillOval(playerX - 35, playerY - 30, 70, 70);
+            g2d.setColor(SHIELD_EDGE);
+            g2d.setStroke(new BasicStroke(3));
+            g2d.drawOval(playerX - 35, playerY - 30, 70, 70);
+        }
+    }
+
+    private void drawUI(Graphics2D g2d, RenderSnapshot snapshot) {
+        g2d.setColor(Color.WHITE);
+        g2d.setFont(SCORE_FONT);
+        g2d.drawString("SCORE: " + snapshot.getScore(), 20, 45);
+        g2d.drawString("ALIENS: " + snapshot.getAliensRemaining(), 20, 80);
+
+        // Show current decorator status
+        g2d.setFont(STATUS_FONT);
+        g2d.setColor(STATUS_COLOR);
+        String status = snapshot.getShipStatus();
+        if (!status.equals("BasicShip")) {
+            g2d.drawString("STATUS: " + status, 20, 115);
+        }
+
+        // Show actual stats
+        g2d.setColor(STATS_COLOR);
+        g2d.drawString("Speed: " + snapshot.getShipSpeed() +
+                      " | FireRate: " + snapshot.getShipFireRate() + "ms" +
+                      " | FirePower: " + snapshot.getShipFirePower(), 20, 140);
+
+        // Next power-up indicator
+        g2d.drawString("Next Power-Up: " + snapshot.getNextPowerUpScore() + " pts", 20, 165);
+    }
+
+    private void drawPauseOverlay(Graphics2D g2d, int width, int height) {
+        g2d.setColor(new Color(0, 0, 0, 180));
+        g2d.fillRect(0, 0, width, height);
+
+        g2d.setColor(new Color(255, 255, 100));
+        g2d.setFont(PAUSE_FONT);
+        String pauseText = "PAUSED";
+        FontMetrics fm = g2d.getFontMetrics();
+        int textWidth = fm.stringWidth(pauseText);
+        g2d.drawString(pauseText, (width - textWidth) / 2, height / 2);
+    }
+}
@@ -32,6 +32,8 @@ public interface Constants {
     int NORMAL_ALIEN_HEIGHT = 20;
     int NORMAL_ALIEN_HEALTH = 1;
     int ALIEN_GAME_OVER_Y = 500;    // Si un alien atteint Y=500, game over
+    int COLLISION_CELL_SIZE = 64;   // Cellule de la grille de collisions (broad phase)
+    int PARALLEL_COLLISION_THRESHOLD = 512; // Projectiles min. pour la phase fine parallèle
     String NORMAL_ALIEN_IMAGE = "resources/alien.png";
     
     // ===== PROJECTILES (Factory Pattern IDs) =====
@@ -50,12 +52,14 @@ public interface Constants {
     int POWER_PROJECTILE_WIDTH = 8;
     int POWER_PROJECTILE_HEIGHT = 20;
     int POWER_PROJECTILE_DAMAGE = 2;
+    int POWER_PROJECTILE_SPEED = 15;
     String POWER_PROJECTILE_IMAGE = "resources/power_projectile.png";
     
     // Alien Bomb
     int ALIEN_BOMB_WIDTH = 6;
     int ALIEN_BOMB_HEIGHT = 12;
     int ALIEN_BOMB_DAMAGE = 1;
+    int ALIEN_BOMB_SPEED = 5;       // Vers le bas
     String ALIEN_BOMB_IMAGE = "resources/bomb.png";
     
     // ===== SCORING =====
@@ -69,5 +73,14 @@ public interface Constants {
     long SHIELD_DURATION = 10000;         // 10 secondes
     
     // ===== GAME LOOP =====
-    int GAME_LOOP_DELAY = 16;  // ~60 FPS (1000ms / 60 = 16.67ms)
+    int TICKS_PER_SECOND = 60;         // Pas fixe de la simulation
+    int MAX_STEPS_PER_FRAME = 5;       // Plafond de rattrapage par frame
+    long LOOP_STATS_INTERVAL_MS = 5000; // Fréquence du log des stats de gigue
+    
+    // ===== RENDERING =====
+    String RENDER_MODE_PROPERTY = "invaders.render"; // -Dinvaders.render=active (défaut: repaint())
+    String RENDER_MODE_ACTIVE = "active";            // Canvas + BufferStrategy
+    String INTERPOLATION_PROPERTY = "invaders.interpolate"; // -Dinvaders.interpolate=true
+    String RENDER_FPS_PROPERTY = "invaders.fps";     // Cadence de rendu interpolé
+    int DEFAULT_RENDER_FPS = 120;                     // Si la fréquence écran est inconnue
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Stockage d'entités en enregistrements de taille fixe: stride champs int par
+ * enregistrement, enregistrements contigus (record * stride + field).
+ * Les entiers sont rangés dans l'ordre d'octets natif, identique pour les deux
+ * implémentations: un fichier écrit par l'une se relit avec l'autre.
+ *
+ * Deux implémentations: tas (int[]) et hors tas (ByteBuffer direct lu par VarHandle),
+ * que le GC ne parcourt ni ne copie. Choisir avec Kind.
+ */
+public interface EntityStore {
+
+    enum Kind {
+        HEAP, OFF_HEAP;
+
+        public EntityStore create(int stride, int capacity) {
+            return this == HEAP ? new HeapEntityStore(stride, capacity)
+                                : new OffHeapEntityStore(stride, capacity);
+        }
+    }
+
+    Kind getKind();
+
+    /** Nombre de champs int par enregistrement */
+    int getStride();
+
+    /** Nombre d'enregistrements disponibles sans agrandissement */
+    int getCapacity();
+
+    /**
+     * Agrandit le stockage (au moins minCapacity enregistrements), contenu conservé
+     */
+    void ensureCapacity(int minCapacity);
+
+    int get(int record, int field);
+
+    void set(int record, int field, int value);
+
+    /** Copie l'enregistrement from sur l'enregistrement to */
+    void copyRecord(int from, int to);
+
+    /**
+     * Écrit les records premiers enregistrements d'un seul bloc
+     * @return nombre d'octets écrits
+     */
+    long writeTo(WritableByteChannel channel, int records) throws IOException;
+
+    /**
+     * Relit records enregistrements écrits par writeTo (capacité agrandie si besoin)
+     */
+    void readFrom(ReadableByteChannel channel, int records) throws IOException;
+
+    /** Octets occupés par les enregistrements alloués */
+    default long getAllocatedBytes() {
+        return (long) getCapacity() * getStride() * Integer.BYTES;
+    }
+}
@@ -0,0 +1,86 @@
+package utils;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Enregistrements dans un int[] du tas (implémentation par défaut)
+ * writeTo/readFrom passent par un tampon intermédiaire, alloué à chaque appel.
+ */
+final class HeapEntityStore implements EntityStore {
+    private final int stride;
+    private int[] data;
+
+    HeapEntityStore(int stride, int capacity) {
+        this.stride = stride;
+        this.data = new int[stride * Math.max(1, capacity)];
+    }
+
+    @Override
+    public Kind getKind() {
+        return Kind.HEAP;
+    }
+
+    @Override
+    public int getStride() {
+        return stride;
+    }
+
+    @Override
+    public int getCapacity() {
+        return data.length / stride;
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > getCapacity()) {
+            data = Arrays.copyOf(data, stride * Math.max(minCapacity, getCapacity() * 2));
+        }
+    }
+
+    @Override
+    public int get(int record, int field) {
+        return data[record * stride + field];
+    }
+
+    @Override
+    public void set(int record, int field, int value) {
+        data[record * stride + field] = value;
+    }
+
+    @Override
+    public void copyRecord(int from, int to) {
+        System.arraycopy(data, from * stride, data, to * stride, stride);
+    }
+
+    @Override
+    public long writeTo(WritableByteChannel channel, int records) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(records * stride * Integer.BYTES)
+                                     .order(ByteOrder.nativeOrder());
+        bytes.asIntBuffer().put(data, 0, records * stride);
+        long written = 0;
+        while (bytes.hasRemaining()) {
+            written += channel.write(bytes);
+        }
+        return written;
+    }
+
+    @Override
+    public void readFrom(ReadableByteChannel channel, int records) throws IOException {
+        ensureCapacity(records);
+        ByteBuffer bytes = ByteBuffer.allocate(records * stride * Integer.BYTES)
+                                     .order(ByteOrder.nativeOrder());
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes) < 0) {
+                throw new EOFException("Entity records truncated");
+            }
+        }
+        bytes.flip();
+        bytes.asIntBuffer().get(data, 0, records * stride);
+    }
+}
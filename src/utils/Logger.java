@@ -3,6 +3,7 @@ package utils;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
@@ -13,11 +14,13 @@ public class Logger {
     private static SimpleDateFormat dateFormat = 
         new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
     private static boolean initialized = false;
+    // Désactivable pour les simulations sans interface (benchmarks, lots de parties)
+    private static volatile boolean enabled = true;
 
     /**
      * Initialise le système de logging
      */
-    public static void initialize() {
+    public static synchronized void initialize() {
         try {
             writer = new PrintWriter(new FileWriter(LOG_FILE, true), true);
             initialized = true;
@@ -27,27 +30,44 @@ public class Logger {
         }
     }
     public static void log(String type, String message) {
-        if (!initialized) {
-            initialize();
+        if (!enabled) {
+            return; // Sans verrou ni I/O
         }
 
-        String timestamp = dateFormat.format(new Date());
-        String logEntry = String.format("[%s] [%s] %s", timestamp, type, message);
-        
-        // Écrire dans le fichier
-        if (writer != null) {
-            writer.println(logEntry);
-            writer.flush();
+        synchronized (Logger.class) {
+            if (!initialized) {
+                initialize();
+            }
+
+            String timestamp = dateFormat.format(new Date());
+            String logEntry = String.format("[%s] [%s] %s", timestamp, type, message);
+            
+            // Écrire dans le fichier
+            if (writer != null) {
+                writer.println(logEntry);
+                writer.flush();
+            }
+            
+            // Aussi afficher dans la console (optionnel)
+            System.out.println(logEntry);
         }
-        
-        // Aussi afficher dans la console (optionnel)
-        System.out.println(logEntry);
+    }
+
+    /**
+     * Active ou coupe complètement le logging
+     */
+    public static void setEnabled(boolean enabled) {
+        Logger.enabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
     }
 
     /**
      * Ferme le logger proprement
      */
-    public static void close() {
+    public static synchronized void close() {
         if (writer != null) {
             log("INFO", "=== Game Session Ended ===");
             writer.close();
@@ -79,4 +99,13 @@ public class Logger {
     public static void error(String message) {
         log("ERROR", message);
     }
+
+    /**
+     * Erreur avec la pile d'appels de l'exception
+     */
+    public static void error(String message, Throwable error) {
+        StringWriter trace = new StringWriter();
+        error.printStackTrace(new PrintWriter(trace));
+        log("ERROR", message + System.lineSeparator() + trace.toString().trim());
+    }
 }
\ No newline at end of file
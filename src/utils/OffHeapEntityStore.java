@@ -0,0 +1,102 @@
+package utils;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Enregistrements hors tas: ByteBuffer direct, champs lus et écrits par un
+ * VarHandle de vue int (ordre natif). Le tas ne garde qu'une petite référence:
+ * le volume des entités ne pèse plus sur le marquage ni sur la copie du GC.
+ * writeTo/readFrom transfèrent la mémoire d'un seul bloc, sans copie intermédiaire.
+ *
+ * (java.lang.foreign n'est pas final sur le JDK 17 visé: même modèle
+ * enregistrement + VarHandle sur un ByteBuffer direct.)
+ */
+final class OffHeapEntityStore implements EntityStore {
+    private static final VarHandle INT =
+        MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private final int stride;
+    private final int recordBytes;
+    private ByteBuffer memory;
+
+    OffHeapEntityStore(int stride, int capacity) {
+        this.stride = stride;
+        this.recordBytes = stride * Integer.BYTES;
+        this.memory = allocate(Math.max(1, capacity));
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * recordBytes).order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    public Kind getKind() {
+        return Kind.OFF_HEAP;
+    }
+
+    @Override
+    public int getStride() {
+        return stride;
+    }
+
+    @Override
+    public int getCapacity() {
+        return memory.capacity() / recordBytes;
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > getCapacity()) {
+            ByteBuffer grown = allocate(Math.max(minCapacity, getCapacity() * 2));
+            grown.put(memory.duplicate().clear());
+            memory = grown; // L'ancien bloc est libéré avec son ByteBuffer
+        }
+    }
+
+    @Override
+    public int get(int record, int field) {
+        return (int) INT.get(memory, record * recordBytes + field * Integer.BYTES);
+    }
+
+    @Override
+    public void set(int record, int field, int value) {
+        INT.set(memory, record * recordBytes + field * Integer.BYTES, value);
+    }
+
+    @Override
+    public void copyRecord(int from, int to) {
+        int source = from * recordBytes;
+        int target = to * recordBytes;
+        for (int offset = 0; offset < recordBytes; offset += Integer.BYTES) {
+            INT.set(memory, target + offset, (int) INT.get(memory, source + offset));
+        }
+    }
+
+    @Override
+    public long writeTo(WritableByteChannel channel, int records) throws IOException {
+        ByteBuffer block = memory.duplicate().clear().limit(records * recordBytes);
+        long written = 0;
+        while (block.hasRemaining()) {
+            written += channel.write(block);
+        }
+        return written;
+    }
+
+    @Override
+    public void readFrom(ReadableByteChannel channel, int records) throws IOException {
+        ensureCapacity(records);
+        ByteBuffer block = memory.duplicate().clear().limit(records * recordBytes);
+        while (block.hasRemaining()) {
+            if (channel.read(block) < 0) {
+                throw new EOFException("Entity records truncated");
+            }
+        }
+    }
+}
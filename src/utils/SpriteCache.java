@@ -0,0 +1,166 @@
+package utils;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache des sprites partagé par tout le processus (thread-safe)
+ * Chaque fichier est lu une seule fois, converti au format de l'écran
+ * (blit sans conversion), puis partagé par toutes les entités.
+ * Un fichier absent ou illisible est mémorisé comme entrée négative: pas de nouvel essai.
+ * Les images rendues sont partagées et ne doivent pas être modifiées.
+ */
+public final class SpriteCache {
+
+    /**
+     * Résultat du chargement d'un fichier (image null = entrée négative)
+     */
+    private static final class Entry {
+        final BufferedImage image;
+        final long loadNanos;
+
+        Entry(BufferedImage image, long loadNanos) {
+            this.image = image;
+            this.loadNanos = loadNanos;
+        }
+    }
+
+    private static final Map<String, Entry> SPRITES = new ConcurrentHashMap<>();
+    // Images vides de repli, une par taille
+    private static final Map<Long, BufferedImage> BLANKS = new ConcurrentHashMap<>();
+
+    private SpriteCache() {
+    }
+
+    /**
+     * Sprite du fichier, chargé au premier appel
+     * @return l'image partagée, ou null si le fichier est absent ou illisible
+     */
+    public static BufferedImage get(String path) {
+        return SPRITES.computeIfAbsent(path, SpriteCache::load).image;
+    }
+
+    /**
+     * Sprite du fichier, ou image transparente partagée de la taille donnée s'il manque
+     */
+    public static BufferedImage getOrBlank(String path, int width, int height) {
+        BufferedImage image = get(path);
+        if (image != null) {
+            return image;
+        }
+        return BLANKS.computeIfAbsent(((long) width << 32) | height,
+            key -> new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB));
+    }
+
+    /**
+     * Charge d'avance (hors EDT, au démarrage) les fichiers donnés
+     */
+    public static void preload(String... paths) {
+        for (String path : paths) {
+            get(path);
+        }
+    }
+
+    private static Entry load(String path) {
+        long start = System.nanoTime();
+        BufferedImage image = null;
+        try {
+            BufferedImage raw = ImageIO.read(new File(path));
+            if (raw != null) {
+                image = toCompatible(raw);
+            }
+        } catch (IOException e) {
+            // Entrée négative ci-dessous
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (image == null) {
+            Logger.warning("Sprite not found, using fallback: " + path);
+        } else {
+            Logger.info(String.format("Sprite loaded: %s (%dx%d, %.1f KB, %.2f ms)",
+                path, image.getWidth(), image.getHeight(),
+                bytesOf(image) / 1024.0, elapsed / 1e6));
+        }
+        return new Entry(image, elapsed);
+    }
+
+    /**
+     * Copie au format de l'écran par défaut; inchangée sans écran (headless)
+     */
+    private static BufferedImage toCompatible(BufferedImage image) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return image;
+        }
+        GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getDefaultScreenDevice().getDefaultConfiguration();
+        if (image.getColorModel().equals(config.getColorModel())) {
+            return image;
+        }
+        BufferedImage compatible = config.createCompatibleImage(
+            image.getWidth(), image.getHeight(), image.getTransparency());
+        Graphics2D g2d = compatible.createGraphics();
+        try {
+            g2d.drawImage(image, 0, 0, null);
+        } finally {
+            g2d.dispose();
+        }
+        return compatible;
+    }
+
+    /**
+     * Mémoire des pixels d'une image (taille du raster, en octets)
+     */
+    private static long bytesOf(BufferedImage image) {
+        long bitsPerPixel = image.getColorModel().getPixelSize();
+        return (long) image.getWidth() * image.getHeight() * ((bitsPerPixel + 7) / 8);
+    }
+
+    /** Durée de chargement du fichier en nanosecondes, -1 s'il n'a pas été demandé */
+    public static long getLoadNanos(String path) {
+        Entry entry = SPRITES.get(path);
+        return entry == null ? -1 : entry.loadNanos;
+    }
+
+    /** Mémoire du sprite en octets, 0 s'il est absent ou n'a pas été demandé */
+    public static long getBytes(String path) {
+        Entry entry = SPRITES.get(path);
+        return entry == null || entry.image == null ? 0 : bytesOf(entry.image);
+    }
+
+    public static long getTotalBytes() {
+        long total = 0;
+        for (Entry entry : SPRITES.values()) {
+            if (entry.image != null) total += bytesOf(entry.image);
+        }
+        return total;
+    }
+
+    /**
+     * Une ligne par fichier demandé: taille, mémoire et durée de chargement
+     */
+    public static String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Sprite cache: %d files, %.1f KB",
+            SPRITES.size(), getTotalBytes() / 1024.0));
+        for (Map.Entry<String, Entry> sprite : new TreeMap<>(SPRITES).entrySet()) {
+            Entry entry = sprite.getValue();
+            report.append(System.lineSeparator()).append("  ").append(sprite.getKey());
+            if (entry.image == null) {
+                report.append(String.format(": missing (%.2f ms)", entry.loadNanos / 1e6));
+            } else {
+                report.append(String.format(": %dx%d, %.1f KB, %.2f ms",
+                    entry.image.getWidth(), entry.image.getHeight(),
+                    bytesOf(entry.image) / 1024.0, entry.loadNanos / 1e6));
+            }
+        }
+        return report.toString();
+    }
+}